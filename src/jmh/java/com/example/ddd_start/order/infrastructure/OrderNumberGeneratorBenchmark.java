@@ -0,0 +1,55 @@
+package com.example.ddd_start.order.infrastructure;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 기존 Order.generateOrderNumber() 방식과 snowflake 발급기 비교
+ * - 실행: ./gradlew jmh, 결과는 build/results/jmh/results.txt
+ * - gc 프로파일러의 gc.alloc.rate.norm 으로 건당 할당량도 함께 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderNumberGeneratorBenchmark {
+
+  private final SnowflakeOrderNumberGenerator snowflake = new SnowflakeOrderNumberGenerator(0);
+
+  @Benchmark
+  public String legacy() {
+    return legacyOrderNumber();
+  }
+
+  @Benchmark
+  public String snowflake() {
+    return snowflake.nextOrderNumber();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String legacyContended() {
+    return legacyOrderNumber();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String snowflakeContended() {
+    return snowflake.nextOrderNumber();
+  }
+
+  // 교체 전 Order.generateOrderNumber() 구현
+  private static String legacyOrderNumber() {
+    LocalDateTime ldt = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+    return "" + ldt.getYear() + ldt.getMonthValue() + ldt.getHour() + ldt.getMinute()
+        + String.format("%04d", ldt.toString().hashCode());
+  }
+}
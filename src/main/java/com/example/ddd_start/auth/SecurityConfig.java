@@ -44,7 +44,8 @@ public class SecurityConfig {
                     new AntPathRequestMatcher("/swagger-ui.html"),
                     new AntPathRequestMatcher("/v3/api-docs/**"),
                     new AntPathRequestMatcher("/swagger-ui/**"),
-                    new AntPathRequestMatcher("/categories")
+                    new AntPathRequestMatcher("/categories"),
+                    new AntPathRequestMatcher("/thumbnails/**")
                 ).permitAll()
                 // 상품 조회는 누구나 가능
                 .requestMatchers(new AntPathRequestMatcher("/products", HttpMethod.GET.name())).permitAll()
@@ -56,6 +57,8 @@ public class SecurityConfig {
                 .requestMatchers(new AntPathRequestMatcher("/products/**", HttpMethod.PUT.name())).authenticated()
                 .requestMatchers(new AntPathRequestMatcher("/products", HttpMethod.DELETE.name())).authenticated()
                 .requestMatchers(new AntPathRequestMatcher("/products/**", HttpMethod.DELETE.name())).authenticated()
+                // 운영 지표 등 관리자 전용
+                .requestMatchers(new AntPathRequestMatcher("/admin/**")).hasRole("ADMIN")
                 .anyRequest().authenticated()
         )
         .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
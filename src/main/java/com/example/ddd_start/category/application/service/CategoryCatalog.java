@@ -0,0 +1,94 @@
+package com.example.ddd_start.category.application.service;
+
+import com.example.ddd_start.category.domain.Category;
+import com.example.ddd_start.category.domain.CategoryRepository;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 인메모리 카탈로그
+ * - 기동 시 전체 카테고리를 한 번 적재하고 id 기준으로 조회
+ * - 상품 조회 경로에서는 카테고리를 DB가 아닌 이 카탈로그에서 해석
+ * - 상품 수집 중 카테고리가 추가되면 FetchProductService가 put()으로 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCatalog {
+
+  private final CategoryRepository categoryRepository;
+  private final Map<Long, Category> categories = new ConcurrentHashMap<>();
+  private volatile Instant lastModified = Instant.now();
+
+  @PostConstruct
+  public void reload() {
+    Map<Long, Category> loaded = categoryRepository.findAll().stream()
+        .collect(Collectors.toMap(Category::getId, c -> c));
+    categories.putAll(loaded);
+    categories.keySet().retainAll(loaded.keySet());
+    lastModified = Instant.now();
+    log.info("카테고리 카탈로그 적재 완료: {}건", categories.size());
+  }
+
+  public void put(Category category) {
+    if (category == null || category.getId() == null) {
+      return;
+    }
+    categories.put(category.getId(), category);
+    lastModified = Instant.now();
+  }
+
+  public Optional<Category> find(Long categoryId) {
+    if (categoryId == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(categories.get(categoryId));
+  }
+
+  /**
+   * 카테고리가 없으면 빈 Category를 반환 (기존 조회 경로의 orElse(new Category()) 동작 유지)
+   */
+  public Category getOrEmpty(Long categoryId) {
+    return find(categoryId).orElseGet(Category::new);
+  }
+
+  public boolean contains(Long categoryId) {
+    return categoryId != null && categories.containsKey(categoryId);
+  }
+
+  /**
+   * 조건부 GET 검사용 카탈로그 최종 변경 시각 (적재/추가/삭제 시점)
+   * - 외부 피드의 수정 시각은 과거일 수 있어 새로 추가되어도 If-Modified-Since를 통과하지 못하므로 쓰지 않음
+   */
+  public Instant lastModified() {
+    return lastModified;
+  }
+
+  /**
+   * 카테고리 구성(id, 수정 시각)이 바뀌면 달라지는 값, 약한 ETag 생성에 사용
+   */
+  public String fingerprint() {
+    long hash = 1;
+    for (Category category : findAll()) {
+      hash = 31 * hash + category.getId();
+      hash = 31 * hash + Objects.hashCode(category.getUpdatedAt());
+    }
+    return categories.size() + "-" + Long.toHexString(hash);
+  }
+
+  public List<Category> findAll() {
+    return categories.values().stream()
+        .sorted(Comparator.comparing(Category::getId))
+        .toList();
+  }
+}
@@ -1,8 +1,11 @@
 package com.example.ddd_start.category.application.service;
 
+import com.example.ddd_start.category.application.service.model.CategorySummaryDTO;
 import com.example.ddd_start.category.domain.Category;
-import com.example.ddd_start.category.domain.CategoryRepository;
+import com.example.ddd_start.product.application.service.CategoryProductCounts;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,9 +13,37 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CategoryService {
 
-  private final CategoryRepository categoryRepository;
+  private final CategoryCatalog categoryCatalog;
+  private final CategoryProductCounts categoryProductCounts;
 
+  /**
+   * ETag 계산과 같은 기준이 되도록 카탈로그에서 조회
+   */
   public List<Category> findAll() {
-    return categoryRepository.findAll();
+    return categoryCatalog.findAll();
+  }
+
+  /**
+   * 카테고리 목록 + 카테고리별 상품 수 (인메모리 요약에서 조회)
+   */
+  public List<CategorySummaryDTO> findAllWithProductCount() {
+    Map<Long, Integer> counts = categoryProductCounts.counts();
+    return categoryCatalog.findAll().stream()
+        .map(c -> CategorySummaryDTO.of(c, counts.getOrDefault(c.getId(), 0)))
+        .toList();
+  }
+
+  /**
+   * 카테고리 구성 또는 상품 수가 바뀌면 달라지는 약한 ETag
+   */
+  public String etag() {
+    return "W/\"categories-" + categoryCatalog.fingerprint()
+        + "-" + categoryProductCounts.revision() + "\"";
+  }
+
+  public Instant lastModified() {
+    Instant categories = categoryCatalog.lastModified();
+    Instant products = categoryProductCounts.lastModified();
+    return categories.isAfter(products) ? categories : products;
   }
 }
@@ -0,0 +1,25 @@
+package com.example.ddd_start.category.application.service.model;
+
+import com.example.ddd_start.category.domain.Category;
+import java.time.Instant;
+
+public record CategorySummaryDTO(Long id,
+                                 String name,
+                                 String slug,
+                                 String imageUrl,
+                                 Instant createdAt,
+                                 Instant updatedAt,
+                                 int productCount) {
+
+  public static CategorySummaryDTO of(Category category, int productCount) {
+    return new CategorySummaryDTO(
+        category.getId(),
+        category.getName(),
+        category.getSlug(),
+        category.getImageUrl(),
+        category.getCreatedAt(),
+        category.getUpdatedAt(),
+        productCount
+    );
+  }
+}
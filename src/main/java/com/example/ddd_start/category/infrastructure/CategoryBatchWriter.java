@@ -0,0 +1,43 @@
+package com.example.ddd_start.category.infrastructure;
+
+import com.example.ddd_start.category.domain.Category;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 JDBC 배치 저장
+ * - Category는 외부 피드의 id를 그대로 사용하므로 JPA save() 시 건마다 merge(select)가 발생함
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryBatchWriter {
+
+  private static final String INSERT_CATEGORY =
+      "insert into category (id, name, slug, image_url, created_at, updated_at) "
+          + "values (?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertAll(List<Category> categories) {
+    if (categories.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_CATEGORY, categories.stream()
+        .map(c -> new Object[]{
+            c.getId(),
+            c.getName(),
+            c.getSlug(),
+            c.getImageUrl(),
+            toTimestamp(c.getCreatedAt()),
+            toTimestamp(c.getUpdatedAt())})
+        .toList());
+  }
+
+  private static Timestamp toTimestamp(Instant instant) {
+    return instant == null ? null : Timestamp.from(instant);
+  }
+}
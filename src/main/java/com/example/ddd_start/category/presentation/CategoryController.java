@@ -1,11 +1,12 @@
 package com.example.ddd_start.category.presentation;
 
 import com.example.ddd_start.category.application.service.CategoryService;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -13,8 +14,21 @@ public class CategoryController {
 
   private final CategoryService categoryService;
 
+  /**
+   * 카테고리 목록 (카테고리별 상품 수 포함)
+   * - If-None-Match / If-Modified-Since가 현재 카탈로그와 같으면 본문 없이 304
+   */
   @GetMapping("/categories")
-  public ResponseEntity printAllCategories() {
-    return ResponseEntity.ok(categoryService.findAll());
+  public ResponseEntity printAllCategories(WebRequest request) {
+    String etag = categoryService.etag();
+    Instant lastModified = categoryService.lastModified();
+    if (request.checkNotModified(etag, lastModified.toEpochMilli())) {
+      // 304 응답은 checkNotModified에서 이미 설정됨
+      return null;
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .lastModified(lastModified)
+        .body(categoryService.findAllWithProductCount());
   }
 }
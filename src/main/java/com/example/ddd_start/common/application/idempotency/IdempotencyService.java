@@ -0,0 +1,248 @@
+package com.example.ddd_start.common.application.idempotency;
+
+import com.example.ddd_start.common.domain.exception.IdempotencyInProgressException;
+import com.example.ddd_start.common.domain.exception.IdempotencyKeyMismatchException;
+import com.example.ddd_start.common.domain.idempotency.IdempotencyEntry;
+import com.example.ddd_start.common.domain.idempotency.IdempotencyStore;
+import com.example.ddd_start.common.domain.idempotency.StoredResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Idempotency-Key 처리
+ * - 같은 (범위, 사용자, 키)의 재시도에는 첫 처리의 응답을 그대로 돌려주고 다시 실행하지 않음
+ * - 완료된 응답은 크기 제한 인메모리 캐시 + idempotency_key 테이블에 보관 (ttl 이후 만료)
+ * - 같은 인스턴스의 동시 중복 요청은 첫 요청의 결과를 기다리고, 다른 인스턴스가 처리 중이면 테이블을 폴링
+ * - 요청 본문 해시가 다르면 422, 기다리는 동안 끝나지 않으면 409
+ * - 예외나 5xx로 끝난 요청은 저장하지 않으므로 재시도하면 다시 실행됨
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+  private static final Pattern KEY_PATTERN = Pattern.compile("[\\x21-\\x7E]{1,100}");
+  private static final long MAX_POLL_INTERVAL_MS = 500;
+
+  private final IdempotencyStore idempotencyStore;
+  private final ObjectMapper objectMapper;
+  private final Cache<String, StoredResponse> completed;
+  private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+  private final Duration ttl;
+  private final Duration lease;
+  private final Duration waitTimeout;
+
+  public IdempotencyService(
+      IdempotencyStore idempotencyStore,
+      ObjectMapper objectMapper,
+      @Value("${idempotency.cache-size:10000}") long cacheSize,
+      @Value("${idempotency.ttl-hours:24}") long ttlHours,
+      @Value("${idempotency.lease-seconds:60}") long leaseSeconds,
+      @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMs) {
+    this.idempotencyStore = idempotencyStore;
+    this.objectMapper = objectMapper;
+    this.ttl = Duration.ofHours(ttlHours);
+    this.lease = Duration.ofSeconds(leaseSeconds);
+    this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+    this.completed = Caffeine.newBuilder()
+        .maximumSize(cacheSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  /**
+   * @param scope     엔드포인트 구분 (예: place-order)
+   * @param principal 요청 사용자, 다른 사용자의 키와 겹치지 않도록 함
+   * @param key       Idempotency-Key 헤더 값, 없으면 그대로 실행
+   * @param request   요청 본문, 같은 키로 다른 요청을 보냈는지 확인하는 데 사용
+   */
+  public ResponseEntity<?> execute(String scope, String principal, String key, Object request,
+      Supplier<ResponseEntity<?>> action) {
+    if (key == null) {
+      return action.get();
+    }
+    if (!KEY_PATTERN.matcher(key).matches()) {
+      throw new IllegalArgumentException(HEADER + "는 공백 없는 1~100자의 ASCII 문자열이어야 합니다.");
+    }
+    String id = scope + ":" + principal + ":" + key;
+    String requestHash = hash(request);
+
+    while (true) {
+      StoredResponse cached = completed.getIfPresent(id);
+      if (cached != null) {
+        return replay(cached, requestHash);
+      }
+
+      CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+      CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(id, mine);
+      if (running != null) {
+        StoredResponse first = await(running);
+        if (first != null) {
+          return replay(first, requestHash);
+        }
+        // 첫 요청이 저장 없이 끝났으면 다시 선점을 시도
+        continue;
+      }
+
+      try {
+        Optional<ResponseEntity<?>> response = runAsOwner(id, requestHash, action, mine);
+        if (response.isPresent()) {
+          return response.get();
+        }
+      } finally {
+        mine.complete(null);
+        inFlight.remove(id, mine);
+      }
+    }
+  }
+
+  /**
+   * 저장소 선점에 성공하면 실행하고, 다른 인스턴스가 선점했으면 그 결과를 기다림
+   * - 기다리던 선점이 저장 없이 풀리면 empty를 반환해 다시 시도하게 함
+   */
+  private Optional<ResponseEntity<?>> runAsOwner(String id, String requestHash,
+      Supplier<ResponseEntity<?>> action, CompletableFuture<StoredResponse> mine) {
+    if (!idempotencyStore.claim(id, requestHash, Instant.now().plus(lease))) {
+      StoredResponse stored = pollStore(id, requestHash);
+      if (stored == null) {
+        return Optional.empty();
+      }
+      completed.put(id, stored);
+      mine.complete(stored);
+      return Optional.of(replay(stored, requestHash));
+    }
+
+    ResponseEntity<?> response;
+    try {
+      response = action.get();
+    } catch (RuntimeException e) {
+      idempotencyStore.release(id);
+      throw e;
+    }
+    if (response.getStatusCode().is5xxServerError()) {
+      idempotencyStore.release(id);
+      return Optional.of(response);
+    }
+
+    StoredResponse stored = toStored(requestHash, response);
+    try {
+      idempotencyStore.complete(id, stored, Instant.now().plus(ttl));
+    } catch (RuntimeException e) {
+      // 이미 처리는 끝났으므로 응답은 돌려주고, 이 인스턴스의 캐시로라도 재처리를 막음
+      log.warn("Idempotency 응답 저장 실패: {} ({})", id, e.getMessage());
+    }
+    completed.put(id, stored);
+    mine.complete(stored);
+    return Optional.of(response);
+  }
+
+  private StoredResponse await(CompletableFuture<StoredResponse> running) {
+    try {
+      return running.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IdempotencyInProgressException();
+    } catch (TimeoutException | ExecutionException e) {
+      throw new IdempotencyInProgressException();
+    }
+  }
+
+  private StoredResponse pollStore(String id, String requestHash) {
+    long deadline = System.nanoTime() + waitTimeout.toNanos();
+    long interval = 50;
+    while (System.nanoTime() < deadline) {
+      Optional<IdempotencyEntry> entry = idempotencyStore.find(id);
+      if (entry.isEmpty()) {
+        return null;
+      }
+      if (!entry.get().requestHash().equals(requestHash)) {
+        throw new IdempotencyKeyMismatchException();
+      }
+      if (entry.get().isCompleted()) {
+        return entry.get().response();
+      }
+      try {
+        Thread.sleep(interval);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      interval = Math.min(interval * 2, MAX_POLL_INTERVAL_MS);
+    }
+    throw new IdempotencyInProgressException();
+  }
+
+  private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+    if (!stored.requestHash().equals(requestHash)) {
+      throw new IdempotencyKeyMismatchException();
+    }
+    ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status())
+        .header(REPLAYED_HEADER, "true");
+    if (stored.location() != null) {
+      builder.location(URI.create(stored.location()));
+    }
+    if (stored.contentType() != null) {
+      builder.contentType(MediaType.parseMediaType(stored.contentType()));
+    }
+    return builder.body(stored.body());
+  }
+
+  private StoredResponse toStored(String requestHash, ResponseEntity<?> response) {
+    Object body = response.getBody();
+    URI location = response.getHeaders().getLocation();
+    String contentType = null;
+    String serialized = null;
+    if (body instanceof String text) {
+      contentType = MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8";
+      serialized = text;
+    } else if (body != null) {
+      contentType = MediaType.APPLICATION_JSON_VALUE;
+      serialized = toJson(body);
+    }
+    return new StoredResponse(requestHash, response.getStatusCodeValue(), contentType,
+        location == null ? null : location.toString(), serialized);
+  }
+
+  private String hash(Object request) {
+    return DigestUtils.sha256Hex(request == null ? "" : toJson(request));
+  }
+
+  private String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Idempotency 요청/응답을 직렬화할 수 없습니다.", e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+  public void purgeExpired() {
+    int purged = idempotencyStore.purgeExpired(Instant.now());
+    if (purged > 0) {
+      log.info("만료된 Idempotency-Key 삭제: {}건", purged);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.example.ddd_start.common.config;
 
 import com.example.ddd_start.common.domain.exception.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -70,6 +71,29 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.FORBIDDEN, "현재 이용할 수 없는 스토어입니다.");
     }
 
+    @ExceptionHandler(OrderIntakeFullException.class)
+    public ResponseEntity<Map<String, Object>> handleOrderIntakeFullException(OrderIntakeFullException e) {
+        log.warn("주문 접수 대기열 포화: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(createErrorResponse(HttpStatus.TOO_MANY_REQUESTS,
+                        "주문이 몰려 접수할 수 없습니다. 잠시 후 다시 시도해주세요.").getBody());
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        log.warn("Idempotency-Key 재사용: {}", e.getMessage());
+        return createErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+    }
+
+    @ExceptionHandler(IdempotencyInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyInProgressException(IdempotencyInProgressException e) {
+        log.warn("Idempotency-Key 처리 중: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(createErrorResponse(HttpStatus.CONFLICT, e.getMessage()).getBody());
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<Map<String, Object>> handleNoSuchElementException(NoSuchElementException e) {
         log.warn("리소스를 찾을 수 없음: {}", e.getMessage());
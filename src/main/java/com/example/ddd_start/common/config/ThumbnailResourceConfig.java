@@ -0,0 +1,27 @@
+package com.example.ddd_start.common.config;
+
+import com.example.ddd_start.product.infrastructure.ThumbnailStore;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 로컬 디스크의 썸네일을 /thumbnails/** 로 서빙
+ * - 경로에 내용 해시가 들어 있어 내용이 바뀌면 URL도 바뀌므로 오래 캐시해도 안전
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ThumbnailResourceConfig implements WebMvcConfigurer {
+
+  private final ThumbnailStore thumbnailStore;
+
+  @Override
+  public void addResourceHandlers(ResourceHandlerRegistry registry) {
+    registry.addResourceHandler(ThumbnailStore.URL_PREFIX + "**")
+        .addResourceLocations(thumbnailStore.root().toUri().toString())
+        .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic());
+  }
+}
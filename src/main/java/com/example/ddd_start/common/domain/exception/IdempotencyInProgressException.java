@@ -0,0 +1,8 @@
+package com.example.ddd_start.common.domain.exception;
+
+public class IdempotencyInProgressException extends RuntimeException {
+
+  public IdempotencyInProgressException() {
+    super("같은 Idempotency-Key의 요청이 아직 처리 중입니다.");
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.ddd_start.common.domain.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+  public IdempotencyKeyMismatchException() {
+    super("같은 Idempotency-Key로 다른 요청을 보냈습니다.");
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.ddd_start.common.domain.exception;
+
+public class OrderIntakeFullException extends RuntimeException {
+
+  public OrderIntakeFullException() {
+    super("주문 접수 대기열이 가득 찼습니다.");
+  }
+}
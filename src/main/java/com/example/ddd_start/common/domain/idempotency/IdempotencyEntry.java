@@ -0,0 +1,11 @@
+package com.example.ddd_start.common.domain.idempotency;
+
+/**
+ * 저장소에 있는 키의 현재 상태, 처리 중이면 response는 null
+ */
+public record IdempotencyEntry(String requestHash, StoredResponse response) {
+
+  public boolean isCompleted() {
+    return response != null;
+  }
+}
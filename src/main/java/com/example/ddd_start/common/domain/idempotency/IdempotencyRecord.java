@@ -0,0 +1,48 @@
+package com.example.ddd_start.common.domain.idempotency;
+
+import java.time.Instant;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 처리 기록 (스키마 정의용, 읽기/쓰기는 IdempotencyStore 구현이 JDBC로 수행)
+ * - id = 범위:사용자:키
+ * - IN_PROGRESS 행의 expiresAt은 처리 임대 만료 시각, COMPLETED 행은 응답 보관 만료 시각
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_key", indexes = {
+    @Index(name = "idx_idempotency_key_expires_at", columnList = "expiresAt")
+})
+public class IdempotencyRecord {
+
+  @Id
+  @Column(length = 200)
+  private String id;
+  @Column(length = 64)
+  private String requestHash;
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20)
+  private State state;
+  private Integer responseStatus;
+  private String contentType;
+  private String location;
+  @Column(columnDefinition = "TEXT")
+  private String responseBody;
+  private Instant createdAt;
+  private Instant expiresAt;
+
+  public enum State {
+    IN_PROGRESS,
+    COMPLETED
+  }
+}
@@ -0,0 +1,24 @@
+package com.example.ddd_start.common.domain.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+  /**
+   * 키를 처리 중(IN_PROGRESS)으로 선점, 이미 있으면 false
+   * - 선점 임대가 만료된 처리 중 행(처리하던 인스턴스가 죽은 경우)은 새로 선점
+   */
+  boolean claim(String id, String requestHash, Instant leaseExpiresAt);
+
+  Optional<IdempotencyEntry> find(String id);
+
+  void complete(String id, StoredResponse response, Instant expiresAt);
+
+  /**
+   * 처리에 실패한 키의 선점을 풀어 재시도가 다시 실행되도록 함
+   */
+  void release(String id);
+
+  int purgeExpired(Instant now);
+}
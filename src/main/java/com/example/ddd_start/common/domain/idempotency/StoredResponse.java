@@ -0,0 +1,12 @@
+package com.example.ddd_start.common.domain.idempotency;
+
+/**
+ * 재전송 요청에 그대로 돌려줄 첫 처리의 응답
+ */
+public record StoredResponse(String requestHash,
+                             int status,
+                             String contentType,
+                             String location,
+                             String body) {
+
+}
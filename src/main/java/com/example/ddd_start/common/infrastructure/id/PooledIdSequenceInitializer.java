@@ -0,0 +1,57 @@
+package com.example.ddd_start.common.infrastructure.id;
+
+import java.util.List;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PooledTableIdGenerator 구간 시드
+ * - IDENTITY로 쌓인 기존 행과 id가 겹치지 않도록 segment 행이 없으면 max(id) + 1 로 생성
+ * - 이미 행이 있으면 건드리지 않음 (여러 인스턴스가 동시에 기동해도 PK 충돌은 무시)
+ * - id_sequence 테이블은 Hibernate 스키마 생성 시 만들어지므로 entityManagerFactory 이후에 실행
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PooledIdSequenceInitializer {
+
+  // segment_value == 테이블명
+  private static final List<String> SEGMENTS = List.of(
+      "orders", "order_line", "cart", "user_coupon");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @PostConstruct
+  public void seed() {
+    SEGMENTS.forEach(this::seedIfAbsent);
+  }
+
+  private void seedIfAbsent(String segment) {
+    Integer exists = jdbcTemplate.queryForObject(
+        "select count(*) from " + PooledTableIdGenerator.TABLE
+            + " where " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?",
+        Integer.class, segment);
+    if (exists != null && exists > 0) {
+      return;
+    }
+
+    Long next = jdbcTemplate.queryForObject(
+        "select coalesce(max(id), 0) + 1 from " + segment, Long.class);
+    try {
+      jdbcTemplate.update(
+          "insert into " + PooledTableIdGenerator.TABLE
+              + " (" + PooledTableIdGenerator.SEGMENT_COLUMN + ", "
+              + PooledTableIdGenerator.VALUE_COLUMN + ") values (?, ?)",
+          segment, next);
+      log.info("id 구간 시드: {} -> {}", segment, next);
+    } catch (DuplicateKeyException e) {
+      log.debug("다른 인스턴스가 먼저 시드함: {}", segment);
+    }
+  }
+}
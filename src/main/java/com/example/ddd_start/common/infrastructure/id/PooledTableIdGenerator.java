@@ -0,0 +1,39 @@
+package com.example.ddd_start.common.infrastructure.id;
+
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * id_sequence 테이블 기반 pooled-lo id 생성기
+ * - IDENTITY 전략은 INSERT 후에야 id를 알 수 있어 Hibernate가 insert 배치를 끈다
+ * - 테이블에서 INCREMENT_SIZE 만큼의 구간을 한 번에 예약하고 메모리에서 id를 나눠주므로
+ *   hibernate.jdbc.batch_size 설정 시 saveAll()이 다건 INSERT로 전송된다
+ * - 시퀀스 객체가 없는 MySQL/H2 모두에서 동작
+ * - segment_value 파라미터에는 엔티티의 테이블명을 사용 (PooledIdSequenceInitializer가 기존 max(id)로 시드)
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+
+  public static final String STRATEGY =
+      "com.example.ddd_start.common.infrastructure.id.PooledTableIdGenerator";
+  public static final String SEGMENT = SEGMENT_VALUE_PARAM;
+
+  static final String TABLE = "id_sequence";
+  static final String SEGMENT_COLUMN = "sequence_name";
+  static final String VALUE_COLUMN = "next_val";
+  static final int INCREMENT_SIZE = 50;
+
+  @Override
+  public void configure(Type type, Properties params, ServiceRegistry serviceRegistry)
+      throws MappingException {
+    params.putIfAbsent(TABLE_PARAM, TABLE);
+    params.putIfAbsent(SEGMENT_COLUMN_PARAM, SEGMENT_COLUMN);
+    params.putIfAbsent(VALUE_COLUMN_PARAM, VALUE_COLUMN);
+    params.putIfAbsent(INCREMENT_PARAM, String.valueOf(INCREMENT_SIZE));
+    params.putIfAbsent(INITIAL_PARAM, "1");
+    params.putIfAbsent(OPT_PARAM, "pooled-lo");
+    super.configure(type, params, serviceRegistry);
+  }
+}
@@ -0,0 +1,92 @@
+package com.example.ddd_start.common.infrastructure.idempotency;
+
+import com.example.ddd_start.common.domain.idempotency.IdempotencyEntry;
+import com.example.ddd_start.common.domain.idempotency.IdempotencyRecord.State;
+import com.example.ddd_start.common.domain.idempotency.IdempotencyStore;
+import com.example.ddd_start.common.domain.idempotency.StoredResponse;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * idempotency_key 테이블 기반 저장소
+ * - 선점은 PK 중복 여부로 판단하므로 여러 인스턴스 사이에서도 한 요청만 실행됨
+ * - 호출하는 쪽 트랜잭션과 무관하게 바로 커밋되도록 각 연산을 새 트랜잭션에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Override
+  public boolean claim(String id, String requestHash, Instant leaseExpiresAt) {
+    Timestamp now = Timestamp.from(Instant.now());
+    try {
+      jdbcTemplate.update("insert into idempotency_key "
+              + "(id, request_hash, state, created_at, expires_at) values (?, ?, ?, ?, ?)",
+          id, requestHash, State.IN_PROGRESS.name(), now, Timestamp.from(leaseExpiresAt));
+      return true;
+    } catch (DuplicateKeyException e) {
+      // 임대가 끝난 처리 중 행이나 보관 기간이 지난 응답은 넘겨받음
+      return jdbcTemplate.update("update idempotency_key set request_hash = ?, state = ?, "
+              + "response_status = null, content_type = null, location = null, "
+              + "response_body = null, created_at = ?, expires_at = ? "
+              + "where id = ? and expires_at < ?",
+          requestHash, State.IN_PROGRESS.name(), now, Timestamp.from(leaseExpiresAt), id, now)
+          == 1;
+    }
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  @Override
+  public Optional<IdempotencyEntry> find(String id) {
+    return jdbcTemplate.query("select request_hash, state, response_status, content_type, "
+                + "location, response_body from idempotency_key where id = ? and expires_at >= ?",
+            (rs, rowNum) -> {
+              String requestHash = rs.getString("request_hash");
+              if (!State.COMPLETED.name().equals(rs.getString("state"))) {
+                return new IdempotencyEntry(requestHash, null);
+              }
+              return new IdempotencyEntry(requestHash, new StoredResponse(
+                  requestHash,
+                  rs.getInt("response_status"),
+                  rs.getString("content_type"),
+                  rs.getString("location"),
+                  rs.getString("response_body")));
+            },
+            id, Timestamp.from(Instant.now()))
+        .stream()
+        .findFirst();
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Override
+  public void complete(String id, StoredResponse response, Instant expiresAt) {
+    jdbcTemplate.update("update idempotency_key set state = ?, response_status = ?, "
+            + "content_type = ?, location = ?, response_body = ?, expires_at = ? where id = ?",
+        State.COMPLETED.name(), response.status(), response.contentType(), response.location(),
+        response.body(), Timestamp.from(expiresAt), id);
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Override
+  public void release(String id) {
+    jdbcTemplate.update("delete from idempotency_key where id = ? and state = ?",
+        id, State.IN_PROGRESS.name());
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Override
+  public int purgeExpired(Instant now) {
+    return jdbcTemplate.update("delete from idempotency_key where expires_at < ?",
+        Timestamp.from(now));
+  }
+}
@@ -1,6 +1,7 @@
 package com.example.ddd_start.coupon.domain;
 
 import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.common.infrastructure.id.PooledTableIdGenerator;
 import com.example.ddd_start.coupon.Exception.CouponAlreadyUsedException;
 import com.example.ddd_start.member.domain.Member;
 import java.time.Instant;
@@ -8,11 +9,12 @@ import java.time.ZoneId;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @NoArgsConstructor
@@ -20,7 +22,9 @@ import lombok.NoArgsConstructor;
 public class UserCoupon {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = "user_coupon_id")
+  @GenericGenerator(name = "user_coupon_id", strategy = PooledTableIdGenerator.STRATEGY,
+      parameters = @Parameter(name = PooledTableIdGenerator.SEGMENT, value = "user_coupon"))
   private Long id;
   private String name;
   private Boolean isUsed;
@@ -1,5 +1,7 @@
 package com.example.ddd_start.coupon.domain;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,4 +15,16 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
   public List<UserCoupon> findAllByMemberIdAndIsUsedFalse(Long memberId);
 
+  public List<UserCoupon> findAllByIdIn(Collection<Long> ids);
+
+  /**
+   * 미사용 쿠폰만 사용 처리하는 조건부 UPDATE
+   * - 반환값(변경 행 수)이 요청한 쿠폰 수보다 적으면 다른 주문이 먼저 사용한 쿠폰이 있다는 뜻
+   * - 락 없이 한 번의 UPDATE로 중복 사용을 막음
+   */
+  @Modifying
+  @Query("update UserCoupon uc set uc.isUsed = true, uc.usedAt = :usedAt, uc.updatedAt = :usedAt "
+      + "where uc.id in :ids and uc.isUsed = false")
+  public int markUsed(Collection<Long> ids, Instant usedAt);
+
 }
@@ -4,7 +4,9 @@ import com.example.ddd_start.coupon.domain.UserCouponRepository;
 import com.example.ddd_start.member.domain.MemberRepository;
 import com.example.ddd_start.order.domain.CartRepository;
 import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.OrderSummaryRepository;
 import com.example.ddd_start.product.domain.LastlyRetrieveProductRepository;
+import com.example.ddd_start.product.infrastructure.RecentlyViewedBuffer;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
@@ -20,14 +22,18 @@ public class DeleteMemberService {
   private final UserCouponRepository userCouponRepository;
   private final CartRepository cartRepository;
   private final OrderRepository orderRepository;
+  private final OrderSummaryRepository orderSummaryRepository;
+  private final RecentlyViewedBuffer recentlyViewedBuffer;
 
   @Transactional
   public void delete(Long id) {
     memberRepository.findById(id).ifPresent(member -> {
       userCouponRepository.deleteAllByMemberId(member.getId());
       lastlyRetrieveProductRepository.deleteAllByMemberId(member.getId());
+      recentlyViewedBuffer.evict(member.getId());
       cartRepository.deleteByMemberId(member.getId());
       orderRepository.deleteByMemberId(member.getId());
+      orderSummaryRepository.deleteByMemberId(member.getId());
 
       memberRepository.delete(member);
     });
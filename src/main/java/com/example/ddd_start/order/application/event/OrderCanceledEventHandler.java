@@ -1,38 +1,28 @@
 package com.example.ddd_start.order.application.event;
 
-import com.example.ddd_start.common.domain.exception.NoOrderException;
-import com.example.ddd_start.order.domain.Order;
-import com.example.ddd_start.order.domain.OrderLineRepository;
-import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.application.service.RefundWorker;
 import com.example.ddd_start.order.domain.event.OrderCanceledEvent;
-import com.example.ddd_start.order.domain.service.RefundService;
-import javax.transaction.Transactional;
-import javax.transaction.Transactional.TxType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 취소가 커밋되면 환불 작업자를 깨움
+ * - 환불 대상은 주문의 REFUND_START 상태로 이미 저장되어 있으므로 이벤트에서는 처리 요청만 함
+ * - 여러 건이 한꺼번에 취소되어도 요청은 하나로 합쳐지고 작업자가 묶음 단위로 처리
+ */
 @Component
 @RequiredArgsConstructor
 public class OrderCanceledEventHandler {
 
-  private final RefundService refundService;
-  private final OrderRepository orderRepository;
-  private final OrderLineRepository orderLineRepository;
+  private final RefundWorker refundWorker;
 
-  @Async
-  @Transactional(value = TxType.REQUIRES_NEW)
   @TransactionalEventListener(
       classes = OrderCanceledEvent.class,
-      phase = TransactionPhase.AFTER_COMMIT)
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
   public void handle(OrderCanceledEvent event) {
-    Order order = orderRepository.findById(event.getOrderId()).orElseThrow(NoOrderException::new);
-    orderLineRepository.deleteByOrderId(order.getId());
-
-    refundService.refund(event.getPaymentId());
-    order.completeRefund();
+    refundWorker.requestDrain();
   }
 }
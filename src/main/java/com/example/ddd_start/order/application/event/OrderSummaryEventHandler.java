@@ -0,0 +1,105 @@
+package com.example.ddd_start.order.application.event;
+
+import com.example.ddd_start.order.application.service.OrderSummaryProjector;
+import com.example.ddd_start.order.domain.event.OrderCanceledEvent;
+import com.example.ddd_start.order.domain.event.OrderPlacedEvent;
+import com.example.ddd_start.order.domain.event.OrderStateChangedEvent;
+import com.example.ddd_start.order.domain.event.ShippingInfoChangedEvent;
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * order_summary 읽기 모델 유지
+ * - 주문 커밋 이후 같은 스레드에서 바로 반영하므로 주문 직후 내 주문 조회에도 보임
+ * - 반영에 실패해도 주문은 이미 커밋되었으므로 로그를 남기고 넘어감
+ *   누락분은 기동 시 채우기, 상태/배송 정보가 어긋난 요약은 주기적인 보정(reconcile)으로 복구
+ */
+@Slf4j
+@Component
+public class OrderSummaryEventHandler {
+
+  private final OrderSummaryProjector orderSummaryProjector;
+  private final boolean backfillOnStartup;
+
+  public OrderSummaryEventHandler(
+      OrderSummaryProjector orderSummaryProjector,
+      @Value("${order.summary.backfill-on-startup:true}") boolean backfillOnStartup) {
+    this.orderSummaryProjector = orderSummaryProjector;
+    this.backfillOnStartup = backfillOnStartup;
+  }
+
+  /**
+   * 누락분 채우기는 주문 테이블 전체를 훑으므로 기동 완료를 늦추지 않도록 백그라운드에서 실행
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    if (backfillOnStartup) {
+      orderSummaryProjector.rebuildInBackground(true);
+    }
+  }
+
+  /**
+   * 이벤트 반영에 실패해 원본과 어긋난 요약을 주기적으로 다시 생성
+   */
+  @Scheduled(fixedDelayString = "${order.summary.reconcile-interval-ms:3600000}",
+      initialDelayString = "${order.summary.reconcile-interval-ms:3600000}")
+  public void reconcile() {
+    orderSummaryProjector.reconcile();
+  }
+
+  @TransactionalEventListener(
+      classes = OrderPlacedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(OrderPlacedEvent event) {
+    try {
+      orderSummaryProjector.project(event.getOrderId());
+    } catch (RuntimeException e) {
+      log.error("주문 요약 생성 실패: orderId={}", event.getOrderId(), e);
+    }
+  }
+
+  @TransactionalEventListener(
+      classes = OrderStateChangedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(OrderStateChangedEvent event) {
+    markState(event.getOrderIds(), event.getOrderState());
+  }
+
+  @TransactionalEventListener(
+      classes = OrderCanceledEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(OrderCanceledEvent event) {
+    markState(List.of(event.getOrderId()), OrderState.CANCEL);
+  }
+
+  @TransactionalEventListener(
+      classes = ShippingInfoChangedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ShippingInfoChangedEvent event) {
+    try {
+      orderSummaryProjector.changeShippingInfo(event.getOrderId(), event.getShippingInfo());
+    } catch (RuntimeException e) {
+      log.error("주문 요약 배송 정보 갱신 실패: orderId={}", event.getOrderId(), e);
+    }
+  }
+
+  private void markState(List<Long> orderIds, OrderState orderState) {
+    try {
+      orderSummaryProjector.markState(orderIds, orderState);
+    } catch (RuntimeException e) {
+      log.error("주문 요약 상태 갱신 실패: orderIds={}, state={}", orderIds, orderState, e);
+    }
+  }
+}
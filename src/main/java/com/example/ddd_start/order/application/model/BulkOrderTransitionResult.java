@@ -0,0 +1,42 @@
+package com.example.ddd_start.order.application.model;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.util.List;
+
+public record BulkOrderTransitionResult(int requested,
+                                        int applied,
+                                        int conflicted,
+                                        int rejected,
+                                        List<Item> items) {
+
+  public enum Outcome {
+    APPLIED,
+    VERSION_CONFLICT,
+    ILLEGAL_TRANSITION,
+    NOT_FOUND,
+    INVALID
+  }
+
+  /**
+   * @param currentState   처리 후 주문 상태 (주문이 없거나 잘못된 요청이면 null)
+   * @param currentVersion 처리 후 주문 버전, 충돌 시 다시 요청할 때 사용
+   */
+  public record Item(Long orderId,
+                     OrderState targetState,
+                     Outcome outcome,
+                     OrderState currentState,
+                     Integer currentVersion,
+                     String message) {
+
+    public static Item applied(OrderTransitionCommand cmd) {
+      return new Item(cmd.orderId(), cmd.targetState(), Outcome.APPLIED, cmd.targetState(),
+          cmd.expectedVersion() + 1, null);
+    }
+
+    public static Item failure(OrderTransitionCommand cmd, Outcome outcome,
+        OrderState currentState, Integer currentVersion, String message) {
+      return new Item(cmd.orderId(), cmd.targetState(), outcome, currentState, currentVersion,
+          message);
+    }
+  }
+}
@@ -1,7 +1,8 @@
 package com.example.ddd_start.order.application.model;
 
 import com.example.ddd_start.common.domain.Money;
-import com.example.ddd_start.order.domain.OrderLine;
+import com.example.ddd_start.order.domain.OrderSummary;
+import com.example.ddd_start.order.domain.OrderSummaryLine;
 import com.example.ddd_start.order.domain.value.OrderState;
 import com.example.ddd_start.order.domain.value.PaymentInfo;
 import com.example.ddd_start.order.domain.value.ShippingInfo;
@@ -17,6 +18,18 @@ public record FindOrderResponse(
     String orderer,
     Instant createdAt,
     PaymentInfo paymentInfo,
-    List<OrderLine> orderLines) {
+    List<OrderSummaryLine> orderLines) {
 
+  public static FindOrderResponse from(OrderSummary summary) {
+    return new FindOrderResponse(
+        summary.getOrderId(),
+        summary.getOrderState(),
+        summary.getShippingInfo(),
+        summary.getMessage(),
+        summary.getTotalAmounts(),
+        summary.getOrdererName(),
+        summary.getCreatedAt(),
+        summary.getPaymentInfo(),
+        summary.getLines());
+  }
 }
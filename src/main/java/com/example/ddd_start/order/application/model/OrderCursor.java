@@ -0,0 +1,40 @@
+package com.example.ddd_start.order.application.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 내 주문 목록 키셋 페이지네이션용 불투명 커서
+ * - 마지막으로 내려준 주문의 (createdAt, id)를 Base64(URL-safe)로 인코딩
+ */
+public record OrderCursor(Instant createdAt, Long id) {
+
+  private static final String DELIMITER = "_";
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 디코딩
+   * - null/공백이면 첫 페이지를 의미하므로 null 반환
+   */
+  public static OrderCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int idx = raw.lastIndexOf(DELIMITER);
+      return new OrderCursor(
+          Instant.parse(raw.substring(0, idx)),
+          Long.parseLong(raw.substring(idx + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.");
+    }
+  }
+}
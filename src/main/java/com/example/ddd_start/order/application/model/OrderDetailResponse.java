@@ -0,0 +1,62 @@
+package com.example.ddd_start.order.application.model;
+
+import com.example.ddd_start.member.domain.MemberGrade;
+import com.example.ddd_start.order.domain.dto.OrderDetailRow;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.PaymentInfo;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import java.time.Instant;
+import java.util.List;
+
+public record OrderDetailResponse(
+    Long orderId,
+    String orderNumber,
+    OrderState orderState,
+    ShippingInfo shippingInfo,
+    String message,
+    Integer totalAmounts,
+    Integer paymentAmounts,
+    PaymentInfo paymentInfo,
+    Instant createdAt,
+    Integer version,
+    Orderer orderer,
+    List<Line> orderLines) {
+
+  /**
+   * 같은 주문의 행 목록(라인 수만큼)을 주문 1건으로 조립
+   */
+  public static OrderDetailResponse from(List<OrderDetailRow> rows) {
+    OrderDetailRow head = rows.get(0);
+    List<Line> lines = rows.stream()
+        .filter(row -> row.orderLineId() != null)
+        .map(row -> new Line(row.orderLineId(), row.productId(), row.productTitle(),
+            row.price(), row.quantity(), row.amount()))
+        .toList();
+    return new OrderDetailResponse(
+        head.orderId(),
+        head.orderNumber(),
+        head.orderState(),
+        head.shippingInfo(),
+        head.message(),
+        head.totalAmounts(),
+        head.paymentAmounts(),
+        head.paymentInfo(),
+        head.createdAt(),
+        head.version(),
+        new Orderer(head.memberId(), head.memberName(), head.memberEmail(), head.memberGrade()),
+        lines);
+  }
+
+  public record Orderer(Long memberId, String name, String email, MemberGrade memberGrade) {
+
+  }
+
+  public record Line(Long orderLineId,
+                     Long productId,
+                     String productTitle,
+                     Integer price,
+                     Integer quantity,
+                     Integer amount) {
+
+  }
+}
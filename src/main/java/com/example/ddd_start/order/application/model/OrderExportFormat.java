@@ -0,0 +1,35 @@
+package com.example.ddd_start.order.application.model;
+
+import java.util.Locale;
+
+public enum OrderExportFormat {
+  CSV("text/csv;charset=UTF-8", "csv"),
+  NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+  private final String contentType;
+  private final String extension;
+
+  OrderExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public static OrderExportFormat from(String value) {
+    if (value == null || value.isBlank()) {
+      return CSV;
+    }
+    try {
+      return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+  }
+}
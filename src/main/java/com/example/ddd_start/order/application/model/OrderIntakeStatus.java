@@ -0,0 +1,31 @@
+package com.example.ddd_start.order.application.model;
+
+import java.time.Instant;
+
+public record OrderIntakeStatus(String orderNumber, State state, Long orderId, String message,
+                                Instant updatedAt) {
+
+  public enum State {
+    PENDING, PLACED, FAILED
+  }
+
+  public static OrderIntakeStatus pending(String orderNumber) {
+    return new OrderIntakeStatus(orderNumber, State.PENDING, null, null, Instant.now());
+  }
+
+  public static OrderIntakeStatus placed(String orderNumber, Long orderId) {
+    return new OrderIntakeStatus(orderNumber, State.PLACED, orderId, null, Instant.now());
+  }
+
+  public static OrderIntakeStatus failed(String orderNumber, String message) {
+    return failed(orderNumber, message, Instant.now());
+  }
+
+  public static OrderIntakeStatus failed(String orderNumber, String message, Instant failedAt) {
+    return new OrderIntakeStatus(orderNumber, State.FAILED, null, message, failedAt);
+  }
+
+  public boolean isPending() {
+    return state == State.PENDING;
+  }
+}
@@ -0,0 +1,9 @@
+package com.example.ddd_start.order.application.model;
+
+import java.util.List;
+
+public record OrderSlice(List<FindOrderResponse> content,
+                         String nextCursor,
+                         boolean hasNext) {
+
+}
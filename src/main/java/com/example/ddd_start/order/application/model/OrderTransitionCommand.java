@@ -0,0 +1,9 @@
+package com.example.ddd_start.order.application.model;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+
+public record OrderTransitionCommand(Long orderId,
+                                     Integer expectedVersion,
+                                     OrderState targetState) {
+
+}
@@ -0,0 +1,177 @@
+package com.example.ddd_start.order.application.service;
+
+import com.example.ddd_start.order.application.model.BulkOrderTransitionResult;
+import com.example.ddd_start.order.application.model.BulkOrderTransitionResult.Item;
+import com.example.ddd_start.order.application.model.BulkOrderTransitionResult.Outcome;
+import com.example.ddd_start.order.application.model.OrderTransitionCommand;
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.dto.OrderStateRow;
+import com.example.ddd_start.order.domain.event.OrderStateChangedEvent;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.infrastructure.OrderStateBatchWriter;
+import com.example.ddd_start.order.infrastructure.OrderStateBatchWriter.Transition;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 상태 일괄 변경 (출고 처리 등)
+ * - 요청은 (주문 id, 기대 버전, 대상 상태) 목록, 허용 전이는 Order.transitionSources()를 따름
+ * - 같은 주문 id가 여러 번 있으면 첫 항목만 처리하고 나머지는 INVALID
+ * - chunk 단위 트랜잭션에서 대상 상태별로 조건부 UPDATE를 JDBC 배치로 실행
+ * - 변경되지 않은 행만 다시 조회해 주문 없음 / 버전 충돌 / 허용되지 않는 전이로 분류
+ * - 변경된 주문은 대상 상태별로 OrderStateChangedEvent 한 건으로 묶어 발행 (chunk 커밋 이후 반영)
+ */
+@Slf4j
+@Service
+public class BulkOrderTransitionService {
+
+  private final OrderStateBatchWriter orderStateBatchWriter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxItems;
+
+  public BulkOrderTransitionService(
+      OrderStateBatchWriter orderStateBatchWriter,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.transition.chunk-size:500}") int chunkSize,
+      @Value("${order.transition.max-items:10000}") int maxItems) {
+    this.orderStateBatchWriter = orderStateBatchWriter;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = Math.max(chunkSize, 1);
+    this.maxItems = maxItems;
+  }
+
+  public BulkOrderTransitionResult transit(List<OrderTransitionCommand> commands) {
+    if (commands == null || commands.isEmpty()) {
+      throw new IllegalArgumentException("변경할 주문이 없습니다.");
+    }
+    if (commands.size() > maxItems) {
+      throw new IllegalArgumentException("한 번에 최대 " + maxItems + "건까지 변경할 수 있습니다.");
+    }
+
+    Item[] results = new Item[commands.size()];
+    List<Integer> indexes = new ArrayList<>();
+    Set<Long> seen = new HashSet<>();
+    for (int i = 0; i < commands.size(); i++) {
+      Item invalid = validate(commands.get(i), seen);
+      if (invalid != null) {
+        results[i] = invalid;
+      } else {
+        indexes.add(i);
+      }
+    }
+
+    for (int from = 0; from < indexes.size(); from += chunkSize) {
+      List<Integer> chunk = indexes.subList(from, Math.min(from + chunkSize, indexes.size()));
+      transactionTemplate.executeWithoutResult(status -> applyChunk(chunk, commands, results));
+    }
+
+    List<Item> items = List.of(results);
+    int applied = count(items, Outcome.APPLIED);
+    int conflicted = count(items, Outcome.VERSION_CONFLICT);
+    log.info("주문 상태 일괄 변경: 요청 {}건, 성공 {}건, 버전 충돌 {}건",
+        items.size(), applied, conflicted);
+    return new BulkOrderTransitionResult(items.size(), applied, conflicted,
+        items.size() - applied - conflicted, items);
+  }
+
+  /**
+   * @param seen 앞서 나온 주문 id, 같은 주문을 한 요청에서 두 번 바꾸면 두 번째가 버전 충돌로 보이므로 거절
+   */
+  private Item validate(OrderTransitionCommand cmd, Set<Long> seen) {
+    if (cmd == null || cmd.orderId() == null || cmd.targetState() == null
+        || cmd.expectedVersion() == null) {
+      OrderTransitionCommand safe = cmd != null ? cmd : new OrderTransitionCommand(null, null, null);
+      return Item.failure(safe, Outcome.INVALID, null, null,
+          "orderId, expectedVersion, targetState는 필수입니다.");
+    }
+    if (!seen.add(cmd.orderId())) {
+      return Item.failure(cmd, Outcome.INVALID, null, null,
+          "같은 주문이 요청에 중복되어 있습니다.");
+    }
+    if (Order.transitionSources(cmd.targetState()).isEmpty()) {
+      return Item.failure(cmd, Outcome.ILLEGAL_TRANSITION, null, null,
+          cmd.targetState() + " 상태로는 일괄 변경할 수 없습니다.");
+    }
+    return null;
+  }
+
+  private void applyChunk(List<Integer> chunk, List<OrderTransitionCommand> commands,
+      Item[] results) {
+    // 대상 상태별로 같은 SQL을 쓰므로 묶어서 배치 실행
+    Map<OrderState, List<Integer>> byTarget = chunk.stream()
+        .collect(Collectors.groupingBy(i -> commands.get(i).targetState(), LinkedHashMap::new,
+            Collectors.toList()));
+
+    List<Integer> unchanged = new ArrayList<>();
+    byTarget.forEach((target, targetIndexes) -> {
+      List<Transition> transitions = targetIndexes.stream()
+          .map(i -> new Transition(commands.get(i).orderId(), commands.get(i).expectedVersion()))
+          .toList();
+      int[] counts = orderStateBatchWriter.transit(
+          target, Order.transitionSources(target), transitions);
+      List<Long> appliedIds = new ArrayList<>();
+      for (int k = 0; k < targetIndexes.size(); k++) {
+        int index = targetIndexes.get(k);
+        if (counts[k] > 0) {
+          results[index] = Item.applied(commands.get(index));
+          appliedIds.add(commands.get(index).orderId());
+        } else {
+          unchanged.add(index);
+        }
+      }
+      if (!appliedIds.isEmpty()) {
+        eventPublisher.publishEvent(new OrderStateChangedEvent(appliedIds, target));
+      }
+    });
+
+    if (!unchanged.isEmpty()) {
+      classifyUnchanged(unchanged, commands, results);
+    }
+  }
+
+  private void classifyUnchanged(List<Integer> unchanged, List<OrderTransitionCommand> commands,
+      Item[] results) {
+    Map<Long, OrderStateRow> current = orderStateBatchWriter.findStates(unchanged.stream()
+            .map(i -> commands.get(i).orderId())
+            .collect(Collectors.toSet()))
+        .stream()
+        .collect(Collectors.toMap(OrderStateRow::id, Function.identity()));
+
+    for (int index : unchanged) {
+      OrderTransitionCommand cmd = commands.get(index);
+      OrderStateRow row = current.get(cmd.orderId());
+      if (row == null) {
+        results[index] = Item.failure(cmd, Outcome.NOT_FOUND, null, null,
+            "주문이 존재하지 않습니다.");
+      } else if (row.version() != cmd.expectedVersion()) {
+        results[index] = Item.failure(cmd, Outcome.VERSION_CONFLICT, row.orderState(),
+            row.version(), "다른 사용자가 이미 수정했습니다.");
+      } else {
+        Set<OrderState> sources = Order.transitionSources(cmd.targetState());
+        results[index] = Item.failure(cmd, Outcome.ILLEGAL_TRANSITION, row.orderState(),
+            row.version(), row.orderState() + " 상태에서는 " + cmd.targetState()
+                + "(으)로 변경할 수 없습니다. 가능한 상태: " + sources);
+      }
+    }
+  }
+
+  private static int count(List<Item> items, Outcome outcome) {
+    return (int) items.stream().filter(item -> item.outcome() == outcome).count();
+  }
+}
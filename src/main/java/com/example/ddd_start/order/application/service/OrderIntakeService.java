@@ -0,0 +1,274 @@
+package com.example.ddd_start.order.application.service;
+
+import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
+import com.example.ddd_start.common.domain.exception.OrderIntakeFullException;
+import com.example.ddd_start.common.domain.exception.ValidationErrorException;
+import com.example.ddd_start.coupon.Exception.CouponAlreadyUsedException;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.member.domain.MemberRepository;
+import com.example.ddd_start.order.application.model.OrderIntakeStatus;
+import com.example.ddd_start.order.application.model.PlaceOrderCommand;
+import com.example.ddd_start.order.domain.OrderIntakeFailure;
+import com.example.ddd_start.order.domain.OrderIntakeFailureRepository;
+import com.example.ddd_start.order.domain.OrderNumberGenerator;
+import com.example.ddd_start.order.domain.OrderRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 주문 접수 (order.intake.async=true 일 때 사용)
+ * - 요청 스레드는 검증 + 주문 번호 발급 + 대기열 적재만 하고 바로 응답
+ * - 고정 길이 대기열이 가득 차면 OrderIntakeFullException(429)으로 거절
+ * - 작성자 스레드가 대기열에서 최대 batch-size 건을 꺼내 한 트랜잭션으로 저장 (group commit)
+ * - 묶음 저장이 실패하면 해당 묶음만 한 건씩 다시 저장해 실패한 주문을 가려냄
+ * - 처리 결과는 주문 번호로 조회, 완료/실패 상태는 status-ttl 이후 메모리에서 제거되고 이후에는 DB로 조회
+ *   (실패는 order_intake_failure에 남김), 주문자 본인의 주문만 조회됨
+ * - 대기열은 메모리에만 있으므로 202 응답 후 저장 전에 프로세스가 비정상 종료되면 대기 중인 주문은 유실됨
+ *   (정상 종료 시에는 대기열을 모두 저장), 이 경우 상태 조회는 404
+ */
+@Slf4j
+@Service
+public class OrderIntakeService {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+
+  private final OrderService orderService;
+  private final OrderRepository orderRepository;
+  private final OrderIntakeFailureRepository orderIntakeFailureRepository;
+  private final MemberRepository memberRepository;
+  private final OrderNumberGenerator orderNumberGenerator;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<PendingOrder> queue;
+  private final Map<String, TrackedStatus> statuses = new ConcurrentHashMap<>();
+  private final ExecutorService writers;
+  private final boolean enabled;
+  private final int writerCount;
+  private final int batchSize;
+  private final Duration statusTtl;
+  private volatile boolean running = true;
+
+  public OrderIntakeService(
+      OrderService orderService,
+      OrderRepository orderRepository,
+      OrderIntakeFailureRepository orderIntakeFailureRepository,
+      MemberRepository memberRepository,
+      OrderNumberGenerator orderNumberGenerator,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.intake.async:false}") boolean enabled,
+      @Value("${order.intake.queue-capacity:10000}") int queueCapacity,
+      @Value("${order.intake.writers:2}") int writerCount,
+      @Value("${order.intake.batch-size:100}") int batchSize,
+      @Value("${order.intake.status-ttl-seconds:600}") long statusTtlSeconds) {
+    this.orderService = orderService;
+    this.orderRepository = orderRepository;
+    this.orderIntakeFailureRepository = orderIntakeFailureRepository;
+    this.memberRepository = memberRepository;
+    this.orderNumberGenerator = orderNumberGenerator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+    this.enabled = enabled;
+    this.writerCount = Math.max(writerCount, 1);
+    this.batchSize = Math.max(batchSize, 1);
+    this.statusTtl = Duration.ofSeconds(statusTtlSeconds);
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.writers = Executors.newFixedThreadPool(this.writerCount, runnable -> {
+      Thread thread = new Thread(runnable, "order-intake-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    for (int i = 0; i < writerCount; i++) {
+      writers.execute(this::writeLoop);
+    }
+    log.info("비동기 주문 접수 시작: 작성자 {}개, 묶음 {}건, 대기열 {}건",
+        writerCount, batchSize, queue.remainingCapacity());
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 주문을 검증하고 대기열에 적재, 발급한 주문 번호가 담긴 PENDING 상태를 반환
+   */
+  public OrderIntakeStatus submit(PlaceOrderCommand command) throws ValidationErrorException {
+    orderService.validate(command);
+
+    OrderIntakeStatus pending = OrderIntakeStatus.pending(orderNumberGenerator.nextOrderNumber());
+    statuses.put(pending.orderNumber(), new TrackedStatus(memberIdOf(command), pending));
+    if (!queue.offer(new PendingOrder(pending.orderNumber(), command))) {
+      statuses.remove(pending.orderNumber());
+      throw new OrderIntakeFullException();
+    }
+    return pending;
+  }
+
+  public Optional<OrderIntakeStatus> findMyStatus(String username, String orderNumber)
+      throws NoMemberFoundException {
+    Member member = memberRepository.findMemberByUsername(username)
+        .orElseThrow(NoMemberFoundException::new);
+    return findStatus(orderNumber, member.getId());
+  }
+
+  /**
+   * 주문 번호로 접수 상태 조회, 다른 회원의 주문이면 empty
+   * - 메모리 -> 저장된 주문 -> 저장 실패 기록 순으로 조회
+   */
+  public Optional<OrderIntakeStatus> findStatus(String orderNumber, Long memberId) {
+    TrackedStatus tracked = statuses.get(orderNumber);
+    if (tracked != null) {
+      return Objects.equals(tracked.memberId(), memberId)
+          ? Optional.of(tracked.status()) : Optional.empty();
+    }
+    Optional<OrderIntakeStatus> placed = orderRepository.findFirstByOrderNumber(orderNumber)
+        .filter(order -> Objects.equals(order.getOrderer().getMemberId(), memberId))
+        .map(order -> OrderIntakeStatus.placed(orderNumber, order.getId()));
+    if (placed.isPresent()) {
+      return placed;
+    }
+    return orderIntakeFailureRepository.findById(orderNumber)
+        .filter(failure -> Objects.equals(failure.getMemberId(), memberId))
+        .map(failure -> OrderIntakeStatus.failed(orderNumber, failure.getMessage(),
+            failure.getFailedAt()));
+  }
+
+  private void writeLoop() {
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingOrder first = queue.poll(POLL_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("주문 접수 작성자 오류", e);
+      }
+    }
+  }
+
+  void write(List<PendingOrder> batch) {
+    try {
+      List<Long> orderIds = transactionTemplate.execute(status -> batch.stream()
+          .map(this::place)
+          .toList());
+      for (int i = 0; i < batch.size(); i++) {
+        PendingOrder pending = batch.get(i);
+        complete(pending, OrderIntakeStatus.placed(pending.orderNumber(), orderIds.get(i)));
+      }
+    } catch (RuntimeException e) {
+      if (batch.size() == 1) {
+        fail(batch.get(0), failureMessage(e));
+        return;
+      }
+      log.warn("주문 묶음 저장 실패, 한 건씩 재시도: {}건 ({})", batch.size(), e.getMessage());
+      batch.forEach(pending -> write(List.of(pending)));
+    }
+  }
+
+  private Long place(PendingOrder pending) {
+    try {
+      return orderService.placeOrder(pending.command(), pending.orderNumber());
+    } catch (NoMemberFoundException e) {
+      throw new IllegalArgumentException("회원 정보를 찾을 수 없습니다.");
+    } catch (ValidationErrorException e) {
+      throw new IllegalArgumentException("주문 정보가 올바르지 않습니다.");
+    }
+  }
+
+  private String failureMessage(RuntimeException e) {
+    if (e instanceof CouponAlreadyUsedException) {
+      return "이미 사용한 쿠폰입니다.";
+    }
+    if (e instanceof IllegalArgumentException) {
+      return e.getMessage();
+    }
+    log.error("주문 저장 실패", e);
+    return "주문을 처리할 수 없습니다.";
+  }
+
+  private void complete(PendingOrder pending, OrderIntakeStatus status) {
+    statuses.put(status.orderNumber(), new TrackedStatus(memberIdOf(pending.command()), status));
+  }
+
+  private static Long memberIdOf(PlaceOrderCommand command) {
+    return command.orderer() == null ? null : command.orderer().getMemberId();
+  }
+
+  /**
+   * 실패 상태를 메모리에 두고 DB에도 남김, 기록에 실패하면 status-ttl 동안만 조회됨
+   */
+  private void fail(PendingOrder pending, String message) {
+    OrderIntakeStatus failed = OrderIntakeStatus.failed(pending.orderNumber(), message);
+    complete(pending, failed);
+    try {
+      orderIntakeFailureRepository.save(new OrderIntakeFailure(
+          pending.orderNumber(), memberIdOf(pending.command()), message, failed.updatedAt()));
+    } catch (RuntimeException e) {
+      log.error("주문 접수 실패 기록 저장 실패: orderNumber={}", pending.orderNumber(), e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${order.intake.status-purge-interval-ms:60000}")
+  public void purgeCompletedStatuses() {
+    Instant expiredBefore = Instant.now().minus(statusTtl);
+    statuses.values().removeIf(tracked -> !tracked.status().isPending()
+        && tracked.status().updatedAt().isBefore(expiredBefore));
+  }
+
+  int queuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * 종료 시 작성자는 대기열에 남은 주문을 모두 저장한 뒤 종료
+   */
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    writers.shutdown();
+    if (!writers.awaitTermination(30, TimeUnit.SECONDS)) {
+      log.warn("주문 접수 대기열을 모두 처리하지 못하고 종료: {}건", queue.size());
+    }
+  }
+
+  record PendingOrder(String orderNumber, PlaceOrderCommand command) {
+
+  }
+
+  private record TrackedStatus(Long memberId, OrderIntakeStatus status) {
+
+  }
+}
@@ -10,14 +10,23 @@ import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.member.domain.MemberRepository;
 import com.example.ddd_start.order.application.model.ChangeOrderShippingInfoCommand;
 import com.example.ddd_start.order.application.model.FindOrderResponse;
+import com.example.ddd_start.order.application.model.OrderCursor;
+import com.example.ddd_start.order.application.model.OrderDetailResponse;
+import com.example.ddd_start.order.application.model.OrderSlice;
 import com.example.ddd_start.order.application.model.PlaceOrderCommand;
 import com.example.ddd_start.order.application.model.StartShippingCommand;
 import com.example.ddd_start.order.application.model.UpdateOrderCommand;
 import com.example.ddd_start.order.domain.Order;
 import com.example.ddd_start.order.domain.OrderLine;
 import com.example.ddd_start.order.domain.OrderLineRepository;
+import com.example.ddd_start.order.domain.OrderNumberGenerator;
 import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.OrderSummary;
+import com.example.ddd_start.order.domain.OrderSummaryRepository;
+import com.example.ddd_start.order.domain.dto.OrderDetailRow;
 import com.example.ddd_start.order.domain.dto.OrderLineDto;
+import com.example.ddd_start.order.domain.event.OrderPlacedEvent;
+import com.example.ddd_start.order.domain.event.OrderPlacedEvent.PlacedLine;
 import com.example.ddd_start.order.domain.service.DiscountCalculationService;
 import com.example.ddd_start.order.domain.value.OrderState;
 import com.example.ddd_start.order.domain.value.ShippingInfo;
@@ -31,6 +40,7 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,12 +55,18 @@ public class OrderService {
   private final ApplicationEventPublisher eventPublisher;
   private final ProductRepository productRepository;
   private final OrderLineRepository orderLineRepository;
+  private final OrderNumberGenerator orderNumberGenerator;
+  private final OrderSummaryRepository orderSummaryRepository;
+
+  private static final int MAX_PAGE_SIZE = 100;
 
   @Transactional
   public void cancelOrder(Long orderId) {
     Optional<Order> optionalOrder = orderRepository.findById(orderId);
     Order order = optionalOrder.orElseThrow(NoOrderException::new);
     order.cancel();
+
+    order.getOrderEvents().forEach(eventPublisher::publishEvent);
   }
 
   @Transactional
@@ -74,25 +90,16 @@ public class OrderService {
   @Transactional
   public Long placeOrderV2(PlaceOrderCommand command)
       throws ValidationErrorException, NoMemberFoundException {
-    List<ValidationError> errors = new ArrayList<>();
-
-    if (command == null) {
-      errors.add(ValidationError.of("empty"));
-    } else {
-      if (command.orderer() == null) {
-        errors.add(ValidationError.of("orderer", "empty"));
-      }
-      if (command.orderLines() == null) {
-        errors.add(ValidationError.of("orderLine", "empty"));
-      }
-      if (command.shippingInfo() == null) {
-        errors.add(ValidationError.of("shippingInfo", "empty"));
-      }
-    }
+    return placeOrder(command, orderNumberGenerator.nextOrderNumber());
+  }
 
-    if (!errors.isEmpty()) {
-      throw new ValidationErrorException(errors);
-    }
+  /**
+   * 주문 번호를 미리 발급받은 주문 저장, 비동기 접수(OrderIntakeService)의 작성자 스레드도 사용
+   */
+  @Transactional
+  public Long placeOrder(PlaceOrderCommand command, String orderNumber)
+      throws ValidationErrorException, NoMemberFoundException {
+    validate(command);
 
     List<OrderLineDto> orderLineDtos = command.orderLines();
     List<Long> productIds = orderLineDtos.stream()
@@ -113,6 +120,7 @@ public class OrderService {
         .toList();
 
     Order order = new Order(
+        orderNumber,
         orderLines,
         command.shippingInfo(),
         command.message(),
@@ -125,9 +133,37 @@ public class OrderService {
     orderLines.forEach(orderLine -> orderLine.changeOrder(savedOrder));
     orderLineRepository.saveAll(orderLines);
 
+    eventPublisher.publishEvent(new OrderPlacedEvent(savedOrder.getId(),
+        savedOrder.getCreatedAt(),
+        orderLines.stream()
+            .map(line -> new PlacedLine(line.getProduct_id(), line.getQuantity(),
+                line.getAmount().getAmount()))
+            .toList()));
     return savedOrder.getId();
   }
 
+  public void validate(PlaceOrderCommand command) throws ValidationErrorException {
+    List<ValidationError> errors = new ArrayList<>();
+
+    if (command == null) {
+      errors.add(ValidationError.of("empty"));
+    } else {
+      if (command.orderer() == null) {
+        errors.add(ValidationError.of("orderer", "empty"));
+      }
+      if (command.orderLines() == null) {
+        errors.add(ValidationError.of("orderLine", "empty"));
+      }
+      if (command.shippingInfo() == null) {
+        errors.add(ValidationError.of("shippingInfo", "empty"));
+      }
+    }
+
+    if (!errors.isEmpty()) {
+      throw new ValidationErrorException(errors);
+    }
+  }
+
   private void calculatePaymentInfo(Order order, List<UserCouponDto> coupons)
       throws NoMemberFoundException {
     Member member = memberRepository.findById(order.getOrderer().getMemberId())
@@ -144,34 +180,18 @@ public class OrderService {
     }
 
     order.changeShipped();
+
+    order.getOrderEvents().forEach(eventPublisher::publishEvent);
   }
 
+  /**
+   * 내 주문 목록, order_summary에서 (memberId, createdAt, orderId) 인덱스로 한 번에 조회
+   */
   @Transactional(readOnly = true)
   public List<FindOrderResponse> findMyOrder(Long memberId) {
-    List<Order> orders = orderRepository.findOrderByMemberId(memberId);
-
-    if (orders.isEmpty()) {
-      return List.of();
-    }
-
-    List<Long> orderIds = orders.stream().map(Order::getId).toList();
-    List<OrderLine> allOrderLines = orderLineRepository.findByOrderIdIn(orderIds);
-
-    Map<Long, List<OrderLine>> orderLineMap = allOrderLines.stream()
-        .collect(Collectors.groupingBy(OrderLine::getOrderId));
-
-    return orders.stream()
-        .map(o -> new FindOrderResponse(
-            o.getId(),
-            o.getOrderState(),
-            o.getShippingInfo(),
-            o.getMessage(),
-            o.getTotalAmounts(),
-            o.getOrderer().getName(),
-            o.getCreatedAt(),
-            o.getPaymentInfo(),
-            orderLineMap.getOrDefault(o.getId(), List.of())
-        ))
+    return orderSummaryRepository.findByMemberIdOrderByCreatedAtDescOrderIdDesc(memberId)
+        .stream()
+        .map(FindOrderResponse::from)
         .toList();
   }
 
@@ -183,6 +203,61 @@ public class OrderService {
     return findMyOrder(member.getId());
   }
 
+  /**
+   * 주문 상세, 주문 + 회원 + 주문 라인 + 상품 제목을 명시적 조인 한 번으로 조회
+   * - memberId가 null이면 (관리자) 회원 조건 없이 조회
+   */
+  @Transactional(readOnly = true)
+  public OrderDetailResponse findOrderDetail(Long orderId, Long memberId) {
+    List<OrderDetailRow> rows = orderRepository.findOrderDetailRows(orderId, memberId);
+    if (rows.isEmpty()) {
+      throw new NoOrderException();
+    }
+    return OrderDetailResponse.from(rows);
+  }
+
+  @Transactional(readOnly = true)
+  public OrderDetailResponse findMyOrderDetail(String username, Long orderId)
+      throws NoMemberFoundException {
+    Member member = memberRepository.findMemberByUsername(username)
+        .orElseThrow(NoMemberFoundException::new);
+    return findOrderDetail(orderId, member.getId());
+  }
+
+  /**
+   * 내 주문 목록 커서 페이지 조회
+   * - order_summary의 (memberId, createdAt, orderId) 인덱스를 타는 키셋 조회, 주문 라인도 같은 행에 포함
+   */
+  @Transactional(readOnly = true)
+  public OrderSlice scrollMyOrdersByUsername(String username, String cursor, int size)
+      throws NoMemberFoundException {
+    Member member = memberRepository.findMemberByUsername(username)
+        .orElseThrow(NoMemberFoundException::new);
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    OrderCursor after = OrderCursor.decode(cursor);
+
+    PageRequest limit = PageRequest.of(0, pageSize + 1);
+    List<OrderSummary> rows = after == null
+        ? orderSummaryRepository.findByMemberIdOrderByCreatedAtDescOrderIdDesc(
+            member.getId(), limit)
+        : orderSummaryRepository.findPageAfter(
+            member.getId(), after.createdAt(), after.id(), limit);
+    boolean hasNext = rows.size() > pageSize;
+    List<OrderSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+    if (page.isEmpty()) {
+      return new OrderSlice(List.of(), null, false);
+    }
+
+    List<FindOrderResponse> content = page.stream()
+        .map(FindOrderResponse::from)
+        .toList();
+
+    OrderSummary last = page.get(page.size() - 1);
+    String nextCursor = hasNext
+        ? new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode() : null;
+    return new OrderSlice(content, nextCursor, hasNext);
+  }
+
   @Transactional
   public Long updateOrder(UpdateOrderCommand cmd) {
     Order findOrder = orderRepository.findById(cmd.orderId())
@@ -193,6 +268,8 @@ public class OrderService {
     }
 
     findOrder.changeShippingInfo(cmd.shippingInfo());
+
+    findOrder.getOrderEvents().forEach(eventPublisher::publishEvent);
     return findOrder.getId();
   }
 }
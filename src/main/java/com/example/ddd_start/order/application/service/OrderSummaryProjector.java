@@ -0,0 +1,198 @@
+package com.example.ddd_start.order.application.service;
+
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.OrderLine;
+import com.example.ddd_start.order.domain.OrderLineRepository;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.OrderSummary;
+import com.example.ddd_start.order.domain.OrderSummaryRepository;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import com.example.ddd_start.product.domain.Product;
+import com.example.ddd_start.product.domain.ProductRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * order_summary 읽기 모델 갱신
+ * - 주문 접수 시 주문 + 주문 라인 + 상품(제목/대표 이미지)을 읽어 요약 1행을 생성
+ * - 상태 변경/취소는 상태 컬럼만, 배송지 변경은 배송 정보만 갱신
+ * - 커밋 이후 이벤트에서 호출되므로 항상 새 트랜잭션에서 실행
+ * - rebuild()는 주문 id 키셋으로 chunk 단위 트랜잭션을 나누어 요약을 다시 생성
+ * - reconcile()은 상태/배송 정보가 원본과 어긋난 요약만 다시 생성 (이벤트 반영 실패분 보정)
+ * - 취소 후 주문 라인이 삭제된 주문은 기존 요약의 라인 스냅샷을 유지
+ * - 요약을 먼저 읽고 원본을 읽으므로, 그 사이 이벤트로 갱신된 요약은 revision 충돌로 덮어쓰지 않음
+ *   (충돌한 chunk는 원본을 다시 읽어 한 번 더 시도)
+ */
+@Slf4j
+@Service
+public class OrderSummaryProjector {
+
+  private final OrderRepository orderRepository;
+  private final OrderLineRepository orderLineRepository;
+  private final ProductRepository productRepository;
+  private final OrderSummaryRepository orderSummaryRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  public OrderSummaryProjector(
+      OrderRepository orderRepository,
+      OrderLineRepository orderLineRepository,
+      ProductRepository productRepository,
+      OrderSummaryRepository orderSummaryRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.summary.rebuild-chunk-size:500}") int chunkSize) {
+    this.orderRepository = orderRepository;
+    this.orderLineRepository = orderLineRepository;
+    this.productRepository = productRepository;
+    this.orderSummaryRepository = orderSummaryRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = Math.max(chunkSize, 1);
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void project(Long orderId) {
+    projectAll(List.of(orderId));
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void markState(List<Long> orderIds, OrderState orderState) {
+    int updated = orderSummaryRepository.updateState(orderIds, orderState, Instant.now());
+    if (updated < orderIds.size()) {
+      // 요약이 아직 없는 주문은 원본에서 다시 생성
+      List<Long> missing = new ArrayList<>(orderIds);
+      missing.removeAll(orderSummaryRepository.findAllById(orderIds).stream()
+          .map(OrderSummary::getOrderId)
+          .toList());
+      projectAll(missing);
+    }
+  }
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void changeShippingInfo(Long orderId, ShippingInfo shippingInfo) {
+    orderSummaryRepository.findById(orderId).ifPresentOrElse(
+        summary -> summary.changeShippingInfo(shippingInfo),
+        () -> projectAll(List.of(orderId)));
+  }
+
+  /**
+   * 관리자 요청 또는 기동 시 누락분 채우기로 백그라운드 재구축, 이미 재구축 중이면 무시
+   */
+  @Async
+  public void rebuildInBackground(boolean onlyMissing) {
+    rebuild(onlyMissing);
+  }
+
+  /**
+   * @param onlyMissing true면 요약이 없는 주문만 생성, false면 전체 주문의 요약을 다시 생성
+   * @return 생성한 요약 수, 이미 재구축 중이면 -1
+   */
+  public long rebuild(boolean onlyMissing) {
+    return onlyMissing
+        ? rebuild("누락분 채우기", orderSummaryRepository::findOrderIdsWithoutSummaryAfter)
+        : rebuild("전체 재구축", orderSummaryRepository::findOrderIdsAfter);
+  }
+
+  /**
+   * 상태/배송 정보가 원본 주문과 어긋난 요약을 다시 생성
+   * @return 다시 생성한 요약 수, 이미 재구축 중이면 -1
+   */
+  public long reconcile() {
+    return rebuild("어긋난 요약 보정", orderSummaryRepository::findStaleOrderIdsAfter);
+  }
+
+  private long rebuild(String name, BiFunction<Long, Pageable, List<Long>> findIdsAfter) {
+    if (!rebuilding.compareAndSet(false, true)) {
+      log.info("주문 요약 재구축이 이미 진행 중입니다.");
+      return -1;
+    }
+    try {
+      long startedAt = System.currentTimeMillis();
+      long count = 0;
+      long lastId = 0;
+      List<Long> ids;
+      do {
+        ids = findIdsAfter.apply(lastId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+          break;
+        }
+        projectChunk(ids);
+        count += ids.size();
+        lastId = ids.get(ids.size() - 1);
+      } while (ids.size() == chunkSize);
+
+      log.info("주문 요약 {} 완료: {}건, {}ms", name, count,
+          System.currentTimeMillis() - startedAt);
+      return count;
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  private void projectChunk(List<Long> ids) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> projectAll(ids));
+    } catch (OptimisticLockingFailureException e) {
+      // 읽는 사이 이벤트로 갱신된 요약이 있으면 원본을 다시 읽어 한 번 더 시도
+      transactionTemplate.executeWithoutResult(status -> projectAll(ids));
+    }
+  }
+
+  private void projectAll(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    // 원본보다 요약을 먼저 읽어야 이후 갱신된 요약을 revision 충돌로 감지할 수 있음
+    Map<Long, OrderSummary> existing = orderSummaryRepository.findAllById(orderIds).stream()
+        .collect(Collectors.toMap(OrderSummary::getOrderId, Function.identity()));
+    List<Order> orders = new ArrayList<>();
+    orderRepository.findAllById(orderIds).forEach(orders::add);
+    if (orders.isEmpty()) {
+      return;
+    }
+
+    List<Long> ids = orders.stream().map(Order::getId).toList();
+    Map<Long, List<OrderLine>> linesByOrder = orderLineRepository.findByOrderIdIn(ids).stream()
+        .collect(Collectors.groupingBy(OrderLine::getOrderId));
+    List<Long> productIds = linesByOrder.values().stream()
+        .flatMap(List::stream)
+        .map(OrderLine::getProduct_id)
+        .distinct()
+        .toList();
+    Map<Long, Product> products = productIds.isEmpty() ? Map.of()
+        : productRepository.findAllWithImagesByIdIn(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    List<OrderSummary> created = new ArrayList<>();
+    for (Order order : orders) {
+      OrderSummary summary = OrderSummary.of(order,
+          linesByOrder.getOrDefault(order.getId(), List.of()), products);
+      OrderSummary current = existing.get(order.getId());
+      if (current == null) {
+        created.add(summary);
+      } else {
+        current.overwrite(summary);
+      }
+    }
+    orderSummaryRepository.saveAll(created);
+  }
+}
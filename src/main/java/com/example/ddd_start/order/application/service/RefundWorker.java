@@ -0,0 +1,243 @@
+package com.example.ddd_start.order.application.service;
+
+import com.example.ddd_start.common.domain.exception.NoOrderException;
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.OrderLineRepository;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.service.RefundService;
+import com.example.ddd_start.order.infrastructure.RefundBatchWriter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 취소 주문 환불 작업자
+ * - 대기 환불(REFUND_START)을 batch-size 건씩 선점해 최대 concurrency개의 스레드로 RefundService 호출
+ * - 시간 초과/재기동으로 결과를 모르는 환불도 다시 호출하므로 주문별 고정 멱등 키를 함께 전달해 중복 환불 방지
+ * - 결과는 묶음당 한 트랜잭션으로 반영 (성공: 주문 라인 삭제 + 환불 완료, 실패: 지수 백오프 후 재시도)
+ * - max-attempts번 실패하면 REFUND_FAILED로 멈추고 관리자가 retry()로 다시 시작
+ * - 진행 상태는 모두 orders 테이블에 있으므로 재기동 후에도 이어서 처리 (선점 임대가 끝난 건 포함)
+ * - 취소 커밋 시 requestDrain()으로 바로 깨우고, 놓친 건은 poll-interval마다 주기적으로 확인
+ */
+@Slf4j
+@Service
+public class RefundWorker {
+
+  private static final Duration LEASE_MARGIN = Duration.ofMinutes(1);
+
+  private final OrderRepository orderRepository;
+  private final OrderLineRepository orderLineRepository;
+  private final RefundService refundService;
+  private final RefundBatchWriter refundBatchWriter;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService drainer;
+  private final ExecutorService refunders;
+  private final AtomicBoolean drainRequested = new AtomicBoolean();
+  private final int batchSize;
+  private final int concurrency;
+  private final int maxAttempts;
+  private final Duration lease;
+  private final Duration callTimeout;
+  private final Duration backoffBase;
+  private final Duration backoffMax;
+
+  public RefundWorker(
+      OrderRepository orderRepository,
+      OrderLineRepository orderLineRepository,
+      RefundService refundService,
+      RefundBatchWriter refundBatchWriter,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.refund.batch-size:100}") int batchSize,
+      @Value("${order.refund.concurrency:4}") int concurrency,
+      @Value("${order.refund.max-attempts:8}") int maxAttempts,
+      @Value("${order.refund.call-timeout-ms:10000}") long callTimeoutMs,
+      @Value("${order.refund.backoff-base-ms:1000}") long backoffBaseMs,
+      @Value("${order.refund.backoff-max-ms:600000}") long backoffMaxMs) {
+    this.orderRepository = orderRepository;
+    this.orderLineRepository = orderLineRepository;
+    this.refundService = refundService;
+    this.refundBatchWriter = refundBatchWriter;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = Math.max(batchSize, 1);
+    this.concurrency = Math.max(concurrency, 1);
+    this.maxAttempts = Math.max(maxAttempts, 1);
+    this.callTimeout = Duration.ofMillis(callTimeoutMs);
+    // 선점 임대는 한 묶음의 환불 호출이 모두 시간 초과되어도 끝나지 않도록 여유를 둠
+    this.lease = callTimeout.multipliedBy(rounds(this.batchSize)).plus(LEASE_MARGIN);
+    this.backoffBase = Duration.ofMillis(backoffBaseMs);
+    this.backoffMax = Duration.ofMillis(backoffMaxMs);
+    this.drainer = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "refund-drainer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    AtomicInteger threadCount = new AtomicInteger();
+    this.refunders = Executors.newFixedThreadPool(this.concurrency, runnable -> {
+      Thread thread = new Thread(runnable, "refund-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * 대기 환불 처리를 요청, 이미 요청되어 있으면 합쳐짐
+   */
+  @Scheduled(fixedDelayString = "${order.refund.poll-interval-ms:10000}")
+  public void requestDrain() {
+    if (drainRequested.compareAndSet(false, true)) {
+      drainer.execute(() -> {
+        drainRequested.set(false);
+        try {
+          drain();
+        } catch (RuntimeException e) {
+          log.error("환불 작업 실패", e);
+        }
+      });
+    }
+  }
+
+  /**
+   * 대기 환불이 없을 때까지 묶음 단위로 처리하고 처리한 건수를 반환
+   */
+  int drain() {
+    int processed = 0;
+    List<Long> pending;
+    do {
+      Instant now = Instant.now();
+      pending = refundBatchWriter.findPendingIds(now, batchSize);
+      List<Long> claimed = refundBatchWriter.claim(pending, now, now.plus(lease));
+      if (!claimed.isEmpty()) {
+        apply(refund(claimed));
+        processed += claimed.size();
+      }
+    } while (pending.size() == batchSize);
+    return processed;
+  }
+
+  /**
+   * 선점한 주문의 결제를 환불하고 주문별 성공 여부를 반환 (DB 트랜잭션 밖에서 호출)
+   */
+  private Map<Long, Boolean> refund(List<Long> orderIds) {
+    Map<Long, Order> orders = new HashMap<>();
+    orderRepository.findAllById(orderIds).forEach(order -> orders.put(order.getId(), order));
+
+    List<Long> ids = new ArrayList<>(orders.keySet());
+    List<Callable<Boolean>> calls = ids.stream()
+        .<Callable<Boolean>>map(id -> () -> {
+          Order order = orders.get(id);
+          refundService.refund(order.getPaymentId(), order.refundIdempotencyKey());
+          return true;
+        })
+        .toList();
+
+    Map<Long, Boolean> results = new HashMap<>();
+    try {
+      List<Future<Boolean>> futures = refunders.invokeAll(calls,
+          callTimeout.multipliedBy(rounds(calls.size())).toMillis(), TimeUnit.MILLISECONDS);
+      for (int i = 0; i < ids.size(); i++) {
+        results.put(ids.get(i), succeeded(ids.get(i), futures.get(i)));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return results;
+  }
+
+  private boolean succeeded(Long orderId, Future<Boolean> future) {
+    if (future.isCancelled()) {
+      log.warn("환불 시간 초과: orderId={}", orderId);
+      return false;
+    }
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      log.warn("환불 실패: orderId={} ({})", orderId, e.getCause().getMessage());
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * 결과를 한 트랜잭션으로 반영, 결과가 없는 건(중단 등)은 임대가 끝나면 다시 처리됨
+   */
+  private void apply(Map<Long, Boolean> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    transactionTemplate.executeWithoutResult(status -> {
+      List<Long> refunded = new ArrayList<>();
+      for (Order order : orderRepository.findAllById(results.keySet())) {
+        if (results.get(order.getId())) {
+          order.completeRefund();
+          refunded.add(order.getId());
+        } else {
+          order.failRefund(now.plus(backoff(order.getRefundAttempts())), maxAttempts);
+          if (order.getRefundRetryAt() == null) {
+            log.error("환불 재시도 횟수 초과: orderId={}", order.getId());
+          }
+        }
+      }
+      if (!refunded.isEmpty()) {
+        orderLineRepository.deleteAllByOrderIdIn(refunded);
+      }
+    });
+  }
+
+  private int rounds(int calls) {
+    return (calls + concurrency - 1) / concurrency;
+  }
+
+  /**
+   * 지금까지의 시도 횟수 기준 base * 2^n (최대 backoff-max), 같은 시각에 몰리지 않도록 ±20% 흔듦
+   */
+  Duration backoff(Integer attempts) {
+    int n = Math.min(attempts == null ? 0 : attempts, 30);
+    long millis = Math.min(backoffBase.toMillis() << n, backoffMax.toMillis());
+    if (millis <= 0) {
+      millis = backoffMax.toMillis();
+    }
+    double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+    return Duration.ofMillis((long) (millis * jitter));
+  }
+
+  /**
+   * REFUND_FAILED 주문을 다시 대기 환불로 돌리고 바로 처리를 요청
+   */
+  public void retry(Long orderId) {
+    transactionTemplate.executeWithoutResult(status -> orderRepository.findById(orderId)
+        .orElseThrow(NoOrderException::new)
+        .retryRefund());
+    requestDrain();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    drainer.shutdownNow();
+    refunders.shutdown();
+    if (!refunders.awaitTermination(callTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn("환불 호출이 끝나지 않은 채 종료, 선점 임대가 끝나면 다시 처리됩니다.");
+    }
+  }
+}
@@ -1,21 +1,25 @@
 package com.example.ddd_start.order.domain;
 
+import com.example.ddd_start.common.infrastructure.id.PooledTableIdGenerator;
 import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.product.domain.Product;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Getter
 @Entity
 @NoArgsConstructor
 public class Cart {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = "cart_id")
+  @GenericGenerator(name = "cart_id", strategy = PooledTableIdGenerator.STRATEGY,
+      parameters = @Parameter(name = PooledTableIdGenerator.SEGMENT, value = "cart"))
   private Long id;
   @ManyToOne
   private Member member;
@@ -1,15 +1,18 @@
 package com.example.ddd_start.order.domain;
 
 import static com.example.ddd_start.order.domain.value.OrderState.CANCEL;
+import static com.example.ddd_start.order.domain.value.OrderState.DELIVERING;
 import static com.example.ddd_start.order.domain.value.OrderState.PAYMENT_WAITING;
 import static com.example.ddd_start.order.domain.value.OrderState.PREPARING;
 import static com.example.ddd_start.order.domain.value.OrderState.SHIPPED;
 
 import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.common.infrastructure.id.PooledTableIdGenerator;
 import com.example.ddd_start.coupon.application.model.UserCouponDto;
 import com.example.ddd_start.member.domain.MemberGrade;
 import com.example.ddd_start.order.domain.event.OrderCanceledEvent;
 import com.example.ddd_start.order.domain.event.OrderEvent;
+import com.example.ddd_start.order.domain.event.OrderStateChangedEvent;
 import com.example.ddd_start.order.domain.event.ShippingInfoChangedEvent;
 import com.example.ddd_start.order.domain.service.DiscountCalculationService;
 import com.example.ddd_start.order.domain.value.OrderState;
@@ -18,10 +21,9 @@ import com.example.ddd_start.order.domain.value.PaymentInfo;
 import com.example.ddd_start.order.domain.value.RefundState;
 import com.example.ddd_start.order.domain.value.ShippingInfo;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
 import javax.persistence.Column;
@@ -30,22 +32,31 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import javax.persistence.Transient;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.data.annotation.Version;
 
 @Getter
 @Entity(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "uk_orders_order_number", columnList = "orderNumber", unique = true),
+    @Index(name = "idx_orders_refund", columnList = "refundState, refundRetryAt")
+})
 @NoArgsConstructor
 @Slf4j
 public class Order {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = "order_id")
+  @GenericGenerator(name = "order_id", strategy = PooledTableIdGenerator.STRATEGY,
+      parameters = @Parameter(name = PooledTableIdGenerator.SEGMENT, value = "orders"))
   private Long id;
   private String orderNumber;
   @Enumerated(value = EnumType.STRING)
@@ -72,6 +83,8 @@ public class Order {
   private Money paymentAmounts;
   @Enumerated(value = EnumType.STRING)
   private RefundState refundState;
+  private Integer refundAttempts;
+  private Instant refundRetryAt;
   @Enumerated(value = EnumType.STRING)
   private PaymentInfo paymentInfo;
   private Long paymentId;
@@ -82,12 +95,13 @@ public class Order {
   List<OrderEvent> orderEvents = new ArrayList<>();
 
   public Order(
+      String orderNumber,
       List<OrderLine> orderLines,
       ShippingInfo shippingInfo,
       String message,
       Orderer orderer,
       PaymentInfo paymentInfo) {
-    this.orderNumber = generateOrderNumber();
+    setOrderNumber(orderNumber);
     this.orderState = PREPARING;
     setOrderLines(orderLines);
     setShippingInfo(shippingInfo);
@@ -104,12 +118,11 @@ public class Order {
     this.orderer = orderer;
   }
 
-  private String generateOrderNumber() {
-    LocalDateTime ldt = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
-    String orderNumber =
-        "" + ldt.getYear() + ldt.getMonthValue() + ldt.getHour() + ldt.getMinute() + String.format(
-            "%04d", ldt.toString().hashCode());
-    return orderNumber;
+  private void setOrderNumber(String orderNumber) {
+    if (orderNumber == null || orderNumber.isBlank()) {
+      throw new IllegalArgumentException("no orderNumber");
+    }
+    this.orderNumber = orderNumber;
   }
 
   private void setShippingInfo(ShippingInfo shippingInfo) {
@@ -145,6 +158,7 @@ public class Order {
       throw new IllegalStateException("이미 결제가 완료된 주문입니다.");
     }
     this.orderState = PREPARING;
+    orderEvents.add(new OrderStateChangedEvent(List.of(id), PREPARING));
   }
 
   public void changeShipped() {
@@ -153,12 +167,32 @@ public class Order {
       throw new IllegalStateException("결제과 완료됬을 때만 출고가 가능합니다.");
     }
     this.orderState = SHIPPED;
+    orderEvents.add(new OrderStateChangedEvent(List.of(id), SHIPPED));
   }
 
   public void changeDelivering() {
     if (orderState != SHIPPED) {
       throw new IllegalStateException("출고가 안될 시 배달을 못합니다.");
     }
+    this.orderState = DELIVERING;
+    orderEvents.add(new OrderStateChangedEvent(List.of(id), DELIVERING));
+  }
+
+  /**
+   * 일괄 상태 변경에서 허용하는 전이 (대상 상태 -> 가능한 현재 상태)
+   * - completePayment() / changeShipped() / changeDelivering() 규칙과 동일
+   * - 취소는 환불 시작과 이벤트 발행이 필요하므로 cancel()로만 가능
+   */
+  public static Set<OrderState> transitionSources(OrderState target) {
+    if (target == null) {
+      return Set.of();
+    }
+    return switch (target) {
+      case PREPARING -> Set.of(PAYMENT_WAITING);
+      case SHIPPED -> Set.of(PREPARING);
+      case DELIVERING -> Set.of(SHIPPED);
+      default -> Set.of();
+    };
   }
 
   public void cancel() {
@@ -189,6 +223,8 @@ public class Order {
   public void startRefund() {
     canRefund();
     this.refundState = RefundState.REFUND_START;
+    this.refundAttempts = 0;
+    this.refundRetryAt = Instant.now();
   }
 
   private void canRefund() {
@@ -200,6 +236,40 @@ public class Order {
   public void completeRefund() {
     verifyRefunding();
     this.refundState = RefundState.REFUND_COMPLETED;
+    this.refundRetryAt = null;
+  }
+
+  /**
+   * 환불 실패 기록, maxAttempts번째 실패면 REFUND_FAILED로 멈추고 아니면 retryAt 이후 다시 시도
+   */
+  public void failRefund(Instant retryAt, int maxAttempts) {
+    verifyRefunding();
+    this.refundAttempts = (refundAttempts == null ? 0 : refundAttempts) + 1;
+    if (refundAttempts >= maxAttempts) {
+      this.refundState = RefundState.REFUND_FAILED;
+      this.refundRetryAt = null;
+    } else {
+      this.refundRetryAt = retryAt;
+    }
+  }
+
+  /**
+   * 결제 환불 멱등 키, 재시도/재기동/관리자 재시도에서도 같은 주문은 항상 같은 키
+   */
+  public String refundIdempotencyKey() {
+    return "order-refund-" + id;
+  }
+
+  /**
+   * 재시도를 모두 실패한 환불을 처음부터 다시 시도
+   */
+  public void retryRefund() {
+    if (this.refundState != RefundState.REFUND_FAILED) {
+      throw new IllegalStateException("환불에 실패한 주문만 다시 시도할 수 있습니다.");
+    }
+    this.refundState = RefundState.REFUND_START;
+    this.refundAttempts = 0;
+    this.refundRetryAt = Instant.now();
   }
 
   private void verifyRefunding() {
@@ -0,0 +1,33 @@
+package com.example.ddd_start.order.domain;
+
+import java.time.Instant;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 접수 후 저장에 실패한 주문 (OrderIntakeService)
+ * - 메모리의 FAILED 상태는 status-ttl 이후나 재시작 시 사라지므로 실패 사유를 남겨 계속 조회할 수 있게 함
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_intake_failure")
+public class OrderIntakeFailure {
+
+  @Id
+  private String orderNumber;
+  private Long memberId;
+  private String message;
+  private Instant failedAt;
+
+  public OrderIntakeFailure(String orderNumber, Long memberId, String message, Instant failedAt) {
+    this.orderNumber = orderNumber;
+    this.memberId = memberId;
+    this.message = message;
+    this.failedAt = failedAt;
+  }
+}
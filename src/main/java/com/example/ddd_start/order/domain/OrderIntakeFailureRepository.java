@@ -0,0 +1,7 @@
+package com.example.ddd_start.order.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OrderIntakeFailureRepository extends JpaRepository<OrderIntakeFailure, String> {
+
+}
@@ -1,6 +1,7 @@
 package com.example.ddd_start.order.domain;
 
 import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.common.infrastructure.id.PooledTableIdGenerator;
 import com.example.ddd_start.product.domain.Product;
 import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
@@ -8,20 +9,26 @@ import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_order_line_order_id", columnList = "orderId"))
 public class OrderLine {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(generator = "order_line_id")
+  @GenericGenerator(name = "order_line_id", strategy = PooledTableIdGenerator.STRATEGY,
+      parameters = @Parameter(name = PooledTableIdGenerator.SEGMENT, value = "order_line"))
   private Long id;
   private Long product_id;
   private Long orderId;
@@ -0,0 +1,10 @@
+package com.example.ddd_start.order.domain;
+
+/**
+ * 주문 번호 발급
+ * - 발급한 번호는 전역적으로 유일해야 함 (orders.orderNumber 유니크 인덱스)
+ */
+public interface OrderNumberGenerator {
+
+  String nextOrderNumber();
+}
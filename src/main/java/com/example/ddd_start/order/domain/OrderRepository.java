@@ -1,7 +1,5 @@
 package com.example.ddd_start.order.domain;
 
-import com.example.ddd_start.order.domain.dto.OrderDto;
-import com.example.ddd_start.order.domain.dto.OrderResponseDto;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -12,19 +10,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderRepository extends CrudRepository<Order, Long>, OrderRepositoryCustom {
 
-  @Query(value =
-      "select new com.example.ddd_start.order.domain.dto.OrderResponseDto(o, m, p) "
-          + "from orders o join Member m, Product p "
-          + "where o.orderer.memberId = :memberId "
-          + "and o.orderer.memberId = m.id ")
-  List<OrderResponseDto> findOrdersByMemberId(@Param("memberId") Long memberId);
-
   List<Order> findOrdersByIdOrderByCreatedAtDesc(Long id);
 
   List<Order> findOrdersByIdOrderByCreatedAtDescTotalAmounts(Long id);
@@ -46,8 +36,7 @@ public interface OrderRepository extends CrudRepository<Order, Long>, OrderRepos
   @Query("select o from orders o where o.id = :id")
   Optional<Order> findByIdOptimistic(Long id);
 
-  @Query("select o from orders o where o.orderer.memberId = :memberId")
-  List<Order> findOrderByMemberId(@Param("memberId") Long memberId);
+  Optional<Order> findFirstByOrderNumber(String orderNumber);
 
   @Modifying
   @Query("delete from orders o where o.orderer.memberId = :memberId")
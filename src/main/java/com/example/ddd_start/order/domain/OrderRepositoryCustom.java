@@ -1,7 +1,11 @@
 package com.example.ddd_start.order.domain;
 
+import com.example.ddd_start.order.domain.dto.OrderDetailRow;
 import com.example.ddd_start.order.domain.dto.OrderDto;
+import com.example.ddd_start.order.domain.dto.OrderExportRow;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderRepositoryCustom {
 
@@ -10,4 +14,19 @@ public interface OrderRepositoryCustom {
   List<OrderDto> searchMyStateOrders(OrderSearchCondition orderSearchCondition);
 
   List<OrderDto> search();
+
+  /**
+   * 주문 1건의 상세를 주문 라인 수만큼의 행으로 조회 (회원, 주문 라인, 상품을 명시적 조인한 단일 쿼리)
+   * - memberId가 null이 아니면 해당 회원의 주문일 때만 조회
+   */
+  List<OrderDetailRow> findOrderDetailRows(Long orderId, Long memberId);
+
+  /**
+   * 내보내기 대상 주문을 id 순으로 한 행씩 consumer에 전달 (전진 전용 커서, fetchSize는 JDBC 문장에 그대로 전달)
+   * - from 이상 to 미만의 createdAt, null인 조건은 무시
+   * - 호출하는 쪽에서 트랜잭션을 열어야 함
+   * - 전달한 행 수를 반환
+   */
+  long forEachForExport(OrderSearchCondition condition, Instant from, Instant to, int fetchSize,
+      Consumer<OrderExportRow> consumer);
 }
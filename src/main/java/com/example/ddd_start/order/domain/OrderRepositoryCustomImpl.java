@@ -1,14 +1,24 @@
 package com.example.ddd_start.order.domain;
 
+import static com.example.ddd_start.member.domain.QMember.member;
 import static com.example.ddd_start.order.domain.QOrder.order;
+import static com.example.ddd_start.order.domain.QOrderLine.orderLine;
+import static com.example.ddd_start.product.domain.QProduct.product;
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
 
+import com.example.ddd_start.order.domain.dto.OrderDetailRow;
 import com.example.ddd_start.order.domain.dto.OrderDto;
+import com.example.ddd_start.order.domain.dto.OrderExportRow;
 import com.example.ddd_start.order.domain.value.OrderState;
+import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 import javax.persistence.EntityManager;
 
 public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
@@ -79,6 +89,81 @@ public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
         .fetch();
   }
 
+  @Override
+  public List<OrderDetailRow> findOrderDetailRows(Long orderId, Long memberId) {
+    return queryFactory
+        .select(Projections.constructor(OrderDetailRow.class,
+            order.id,
+            order.orderNumber,
+            order.orderState,
+            order.shippingInfo,
+            order.message,
+            order.totalAmounts.amount,
+            order.paymentAmounts.amount,
+            order.paymentInfo,
+            order.createdAt,
+            order.version,
+            member.id,
+            member.name,
+            member.email,
+            member.memberGrade,
+            orderLine.id,
+            product.id,
+            product.title,
+            orderLine.price.amount,
+            orderLine.quantity,
+            orderLine.amount.amount
+        ))
+        .from(order)
+        .join(member).on(member.id.eq(order.orderer.memberId))
+        .leftJoin(orderLine).on(orderLine.orderId.eq(order.id))
+        .leftJoin(product).on(product.id.eq(orderLine.product_id))
+        .where(order.id.eq(orderId), ordererIdEq(memberId))
+        .orderBy(orderLine.id.asc())
+        .fetch();
+  }
+
+  @Override
+  public long forEachForExport(OrderSearchCondition condition, Instant from, Instant to,
+      int fetchSize, Consumer<OrderExportRow> consumer) {
+    long count = 0;
+    try (CloseableIterator<OrderExportRow> rows = queryFactory
+        .select(Projections.constructor(OrderExportRow.class,
+            order.id,
+            order.orderNumber,
+            order.orderState,
+            order.orderer.memberId,
+            order.orderer.name,
+            order.totalAmounts.amount,
+            order.paymentAmounts.amount,
+            order.paymentInfo,
+            order.refundState,
+            order.shippingInfo.receiver.name,
+            order.shippingInfo.receiver.phoneNumber,
+            order.shippingInfo.address.zipCode,
+            order.shippingInfo.address.address,
+            order.shippingInfo.address.detailedAddress,
+            order.createdAt
+        ))
+        .from(order)
+        .where(
+            ordererIdEq(condition == null ? null : condition.getOrdererId()),
+            orderStateEq(condition == null ? null : condition.getOrderState()),
+            from == null ? null : order.createdAt.goe(from),
+            to == null ? null : order.createdAt.lt(to))
+        .orderBy(order.id.asc())
+        .setHint(FETCH_SIZE, fetchSize)
+        .setHint(READ_ONLY, true)
+        .iterate()) {
+      // Hibernate에서는 iterate()가 ScrollMode.FORWARD_ONLY 커서로 동작
+      while (rows.hasNext()) {
+        consumer.accept(rows.next());
+        count++;
+      }
+    }
+    return count;
+  }
+
   private BooleanExpression ordererIdEq(Long ordererId) {
     return ordererId == null ? null : order.orderer.memberId.eq(ordererId);
   }
@@ -0,0 +1,155 @@
+package com.example.ddd_start.order.domain;
+
+import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.PaymentInfo;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import com.example.ddd_start.order.infrastructure.OrderSummaryLinesConverter;
+import com.example.ddd_start.product.domain.Product;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.AttributeOverride;
+import javax.persistence.AttributeOverrides;
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 내 주문 목록용 비정규화 읽기 모델 (주문 1건 = 1행)
+ * - 주문 라인과 상품 제목/이미지 스냅샷을 JSON 컬럼에 함께 저장해 한 번의 인덱스 조회로 응답
+ * - 주문 접수/상태 변경/취소/배송지 변경 이벤트로 갱신, OrderSummaryProjector로 전체 재구축 가능
+ * - id를 주문 id로 직접 지정하므로 Persistable로 신규 여부를 알려 저장 시 불필요한 SELECT를 피함
+ * - revision은 낙관적 잠금용, 재구축이 읽은 뒤 이벤트로 갱신된 행을 이전 원본으로 덮어쓰지 않도록 함
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_summary", indexes = {
+    @Index(name = "idx_order_summary_member_created", columnList = "memberId, createdAt, orderId")
+})
+public class OrderSummary implements Persistable<Long> {
+
+  @Id
+  private Long orderId;
+  private String orderNumber;
+  private Long memberId;
+  private String ordererName;
+  @Enumerated(value = EnumType.STRING)
+  private OrderState orderState;
+  @Embedded
+  @AttributeOverrides({
+      @AttributeOverride(name = "receiver.name",
+          column = @Column(name = "receiver_name")),
+      @AttributeOverride(name = "receiver.phoneNumber",
+          column = @Column(name = "receiver_phone_number"))
+  })
+  private ShippingInfo shippingInfo;
+  private String message;
+  @Embedded
+  @AttributeOverride(name = "amount", column = @Column(name = "total_amounts"))
+  private Money totalAmounts;
+  @Enumerated(value = EnumType.STRING)
+  private PaymentInfo paymentInfo;
+  private Instant createdAt;
+  private Instant updatedAt;
+  @Convert(converter = OrderSummaryLinesConverter.class)
+  @Column(columnDefinition = "TEXT")
+  private List<OrderSummaryLine> lines;
+  @Version
+  private long revision;
+
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean newEntity = true;
+
+  /**
+   * @param products 주문 라인 상품 (이미지 포함), 삭제된 상품은 제목/이미지 없이 저장
+   */
+  public static OrderSummary of(Order order, List<OrderLine> orderLines,
+      Map<Long, Product> products) {
+    OrderSummary summary = new OrderSummary();
+    summary.orderId = order.getId();
+    summary.orderNumber = order.getOrderNumber();
+    summary.memberId = order.getOrderer().getMemberId();
+    summary.ordererName = order.getOrderer().getName();
+    summary.orderState = order.getOrderState();
+    summary.shippingInfo = order.getShippingInfo();
+    summary.message = order.getMessage();
+    summary.totalAmounts = order.getTotalAmounts();
+    summary.paymentInfo = order.getPaymentInfo();
+    summary.createdAt = order.getCreatedAt();
+    summary.updatedAt = Instant.now();
+    summary.lines = orderLines.stream()
+        .map(line -> toLine(line, products.get(line.getProduct_id())))
+        .toList();
+    return summary;
+  }
+
+  private static OrderSummaryLine toLine(OrderLine line, Product product) {
+    String image = product == null || product.getImages() == null || product.getImages().isEmpty()
+        ? null : product.getImages().get(0);
+    return new OrderSummaryLine(
+        line.getId(),
+        line.getProduct_id(),
+        product == null ? null : product.getTitle(),
+        image,
+        line.getPrice() == null ? null : line.getPrice().getAmount(),
+        line.getQuantity(),
+        line.getAmount() == null ? null : line.getAmount().getAmount());
+  }
+
+  /**
+   * 원본에서 다시 만든 요약으로 덮어씀, 원본 주문 라인이 없으면 (취소 후 삭제) 기존 라인 스냅샷 유지
+   */
+  public void overwrite(OrderSummary source) {
+    this.orderNumber = source.orderNumber;
+    this.memberId = source.memberId;
+    this.ordererName = source.ordererName;
+    this.orderState = source.orderState;
+    this.shippingInfo = source.shippingInfo;
+    this.message = source.message;
+    this.totalAmounts = source.totalAmounts;
+    this.paymentInfo = source.paymentInfo;
+    this.createdAt = source.createdAt;
+    this.updatedAt = source.updatedAt;
+    if (!source.lines.isEmpty() || this.lines == null) {
+      this.lines = source.lines;
+    }
+  }
+
+  public void changeShippingInfo(ShippingInfo shippingInfo) {
+    this.shippingInfo = shippingInfo;
+    this.updatedAt = Instant.now();
+  }
+
+  @Override
+  public Long getId() {
+    return orderId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.newEntity = false;
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.ddd_start.order.domain;
+
+/**
+ * 주문 요약의 주문 라인, 주문 시점의 상품 제목/대표 이미지를 함께 보관
+ */
+public record OrderSummaryLine(Long orderLineId,
+                               Long productId,
+                               String productTitle,
+                               String productImage,
+                               Integer price,
+                               Integer quantity,
+                               Integer amount) {
+
+}
@@ -0,0 +1,62 @@
+package com.example.ddd_start.order.domain;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+  List<OrderSummary> findByMemberIdOrderByCreatedAtDescOrderIdDesc(Long memberId);
+
+  List<OrderSummary> findByMemberIdOrderByCreatedAtDescOrderIdDesc(Long memberId,
+      Pageable pageable);
+
+  @Query("select s from OrderSummary s where s.memberId = :memberId "
+      + "and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.orderId < :orderId)) "
+      + "order by s.createdAt desc, s.orderId desc")
+  List<OrderSummary> findPageAfter(Long memberId, Instant createdAt, Long orderId,
+      Pageable pageable);
+
+  @Modifying
+  @Query("update OrderSummary s set s.orderState = :orderState, s.updatedAt = :updatedAt, "
+      + "s.revision = s.revision + 1 where s.orderId in :orderIds")
+  int updateState(Collection<Long> orderIds, OrderState orderState, Instant updatedAt);
+
+  @Modifying
+  @Query("delete from OrderSummary s where s.memberId = :memberId")
+  void deleteByMemberId(Long memberId);
+
+  @Query("select o.id from orders o where o.id > :lastId order by o.id")
+  List<Long> findOrderIdsAfter(Long lastId, Pageable pageable);
+
+  /**
+   * 요약이 아직 없는 주문 id를 키셋으로 조회 (누락분 채우기)
+   */
+  @Query("select o.id from orders o where o.id > :lastId "
+      + "and not exists (select s.orderId from OrderSummary s where s.orderId = o.id) "
+      + "order by o.id")
+  List<Long> findOrderIdsWithoutSummaryAfter(Long lastId, Pageable pageable);
+
+  /**
+   * 요약의 상태/배송 정보가 원본 주문과 다른 주문 id를 키셋으로 조회 (이벤트 반영 실패분 보정)
+   */
+  @Query("select o.id from orders o, OrderSummary s where s.orderId = o.id and o.id > :lastId "
+      + "and (s.orderState <> o.orderState "
+      + "or coalesce(s.shippingInfo.address.address, '') "
+      + "<> coalesce(o.shippingInfo.address.address, '') "
+      + "or coalesce(s.shippingInfo.address.detailedAddress, '') "
+      + "<> coalesce(o.shippingInfo.address.detailedAddress, '') "
+      + "or coalesce(s.shippingInfo.address.zipCode, 0) "
+      + "<> coalesce(o.shippingInfo.address.zipCode, 0) "
+      + "or coalesce(s.shippingInfo.receiver.name, '') "
+      + "<> coalesce(o.shippingInfo.receiver.name, '') "
+      + "or coalesce(s.shippingInfo.receiver.phoneNumber, '') "
+      + "<> coalesce(o.shippingInfo.receiver.phoneNumber, '')) "
+      + "order by o.id")
+  List<Long> findStaleOrderIdsAfter(Long lastId, Pageable pageable);
+}
@@ -0,0 +1,34 @@
+package com.example.ddd_start.order.domain.dto;
+
+import com.example.ddd_start.member.domain.MemberGrade;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.PaymentInfo;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import java.time.Instant;
+
+/**
+ * 주문 상세 한 행 (주문 + 회원 요약 + 주문 라인 1건 + 상품 제목)
+ * - 주문 라인이 없으면 라인/상품 컬럼은 null
+ */
+public record OrderDetailRow(Long orderId,
+                             String orderNumber,
+                             OrderState orderState,
+                             ShippingInfo shippingInfo,
+                             String message,
+                             Integer totalAmounts,
+                             Integer paymentAmounts,
+                             PaymentInfo paymentInfo,
+                             Instant createdAt,
+                             Integer version,
+                             Long memberId,
+                             String memberName,
+                             String memberEmail,
+                             MemberGrade memberGrade,
+                             Long orderLineId,
+                             Long productId,
+                             String productTitle,
+                             Integer price,
+                             Integer quantity,
+                             Integer amount) {
+
+}
@@ -0,0 +1,27 @@
+package com.example.ddd_start.order.domain.dto;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.PaymentInfo;
+import com.example.ddd_start.order.domain.value.RefundState;
+import java.time.Instant;
+
+/**
+ * 주문 내보내기 한 행, 엔티티를 거치지 않고 스칼라 컬럼만 조회
+ */
+public record OrderExportRow(Long id,
+                             String orderNumber,
+                             OrderState orderState,
+                             Long memberId,
+                             String ordererName,
+                             Integer totalAmounts,
+                             Integer paymentAmounts,
+                             PaymentInfo paymentInfo,
+                             RefundState refundState,
+                             String receiverName,
+                             String receiverPhoneNumber,
+                             Integer zipCode,
+                             String address,
+                             String detailedAddress,
+                             Instant createdAt) {
+
+}
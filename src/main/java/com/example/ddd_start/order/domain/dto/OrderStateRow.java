@@ -0,0 +1,10 @@
+package com.example.ddd_start.order.domain.dto;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+
+/**
+ * @param version null인 기존 주문은 0으로 취급
+ */
+public record OrderStateRow(Long id, OrderState orderState, int version) {
+
+}
@@ -0,0 +1,26 @@
+package com.example.ddd_start.order.domain.event;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 주문 접수 완료, 매출 집계처럼 주문을 다시 읽지 않고 처리할 수 있도록 라인 요약을 함께 전달
+ */
+@Getter
+public class OrderPlacedEvent extends OrderEvent {
+
+  private final Long orderId;
+  private final Instant orderedAt;
+  private final List<PlacedLine> lines;
+
+  public OrderPlacedEvent(Long orderId, Instant orderedAt, List<PlacedLine> lines) {
+    this.orderId = orderId;
+    this.orderedAt = orderedAt;
+    this.lines = List.copyOf(lines);
+  }
+
+  public record PlacedLine(Long productId, int quantity, int amount) {
+
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.ddd_start.order.domain.event;
+
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 하나 이상의 주문이 같은 상태로 바뀜 (단건 출고/결제 완료, 일괄 상태 변경)
+ */
+@Getter
+public class OrderStateChangedEvent extends OrderEvent {
+
+  private final List<Long> orderIds;
+  private final OrderState orderState;
+
+  public OrderStateChangedEvent(List<Long> orderIds, OrderState orderState) {
+    this.orderIds = List.copyOf(orderIds);
+    this.orderState = orderState;
+  }
+}
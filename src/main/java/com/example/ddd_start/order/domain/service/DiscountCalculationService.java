@@ -1,12 +1,16 @@
 package com.example.ddd_start.order.domain.service;
 
 import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.coupon.Exception.CouponAlreadyUsedException;
 import com.example.ddd_start.coupon.application.model.UserCouponDto;
 import com.example.ddd_start.coupon.domain.UserCoupon;
 import com.example.ddd_start.coupon.domain.UserCouponRepository;
 import com.example.ddd_start.member.domain.MemberGrade;
 import com.example.ddd_start.order.domain.OrderLine;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,25 +21,37 @@ public class DiscountCalculationService {
 
   private final UserCouponRepository userCouponRepository;
 
+  /**
+   * 쿠폰 할인 금액 계산 + 쿠폰 사용 처리
+   * - 쿠폰은 IN 조회 한 번으로 가져오고, 사용 처리는 조건부 UPDATE 한 번으로 수행
+   * - UPDATE 변경 행 수가 쿠폰 수와 다르면 동시에 다른 주문이 사용한 것이므로 예외로 트랜잭션을 롤백
+   */
   @Transactional
   public Money calculateDiscountAmounts(
       List<OrderLine> orderLines,
       List<UserCouponDto> userCouponDtos,
       MemberGrade grade
   ) {
-    List<UserCoupon> userCoupons = userCouponDtos.stream()
-        .map(couponDto ->
-            userCouponRepository.findById(couponDto.id())
-                .orElseThrow(() -> new RuntimeException("Coupon not found")))
-        .toList();
+    if (userCouponDtos == null || userCouponDtos.isEmpty()) {
+      return new Money(0);
+    }
+
+    Set<Long> couponIds = userCouponDtos.stream()
+        .map(UserCouponDto::id)
+        .collect(Collectors.toSet());
+    List<UserCoupon> userCoupons = userCouponRepository.findAllByIdIn(couponIds);
+    if (userCoupons.size() != couponIds.size()) {
+      throw new RuntimeException("Coupon not found");
+    }
 
     Money discountedAmount = orderLines.stream()
         .map(orderLine -> calculateDiscount(orderLine, userCoupons))
         .reduce(new Money(0), (v1, v2) -> v1.add(v2));
-    userCoupons
-        .forEach(UserCoupon::useCoupon);
 
-    userCouponRepository.saveAll(userCoupons);
+    int used = userCouponRepository.markUsed(couponIds, Instant.now());
+    if (used != couponIds.size()) {
+      throw new CouponAlreadyUsedException("Coupon is used");
+    }
 
     return discountedAmount;
   }
@@ -5,7 +5,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class RefundService {
 
-  public void refund(Long paymentId) {
+  /**
+   * 결제 환불
+   * - 시간 초과나 재기동으로 결과를 모른 채 다시 호출될 수 있으므로 같은 idempotencyKey로 온 요청은
+   *   결제 대행사에서 한 번만 환불되어야 함 (이미 환불된 경우 성공으로 응답)
+   */
+  public void refund(Long paymentId, String idempotencyKey) {
 
   }
 }
@@ -2,5 +2,6 @@ package com.example.ddd_start.order.domain.value;
 
 public enum RefundState {
   REFUND_START,
-  REFUND_COMPLETED
+  REFUND_COMPLETED,
+  REFUND_FAILED
 }
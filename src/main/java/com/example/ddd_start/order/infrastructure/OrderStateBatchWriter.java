@@ -0,0 +1,67 @@
+package com.example.ddd_start.order.infrastructure;
+
+import com.example.ddd_start.order.domain.dto.OrderStateRow;
+import com.example.ddd_start.order.domain.value.OrderState;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 상태 일괄 변경용 JDBC 배치
+ * - 행마다 "현재 상태가 허용된 이전 상태이고 버전이 기대값과 같을 때만" 바꾸는 조건부 UPDATE
+ * - 변경되면 버전을 1 올림 (version이 null인 기존 주문은 0으로 취급)
+ * - 배치 결과의 행별 변경 건수(0/1)로 성공 여부를 판단하므로 락이 필요 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStateBatchWriter {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 같은 대상 상태로 가는 전이들을 한 번의 배치로 실행하고 행별 변경 건수를 반환
+   */
+  public int[] transit(OrderState target, Set<OrderState> sources, List<Transition> transitions) {
+    if (transitions.isEmpty() || sources.isEmpty()) {
+      return new int[transitions.size()];
+    }
+    List<OrderState> sourceList = List.copyOf(sources);
+    String sql = "update orders set order_state = ?, version = coalesce(version, 0) + 1 "
+        + "where id = ? and coalesce(version, 0) = ? and order_state in ("
+        + String.join(", ", Collections.nCopies(sourceList.size(), "?")) + ")";
+
+    return jdbcTemplate.batchUpdate(sql, transitions, transitions.size(), (ps, transition) -> {
+      int idx = 1;
+      ps.setString(idx++, target.name());
+      ps.setLong(idx++, transition.orderId());
+      ps.setInt(idx++, transition.expectedVersion());
+      for (OrderState source : sourceList) {
+        ps.setString(idx++, source.name());
+      }
+    })[0];
+  }
+
+  public List<OrderStateRow> findStates(Collection<Long> orderIds) {
+    if (orderIds.isEmpty()) {
+      return List.of();
+    }
+    return new NamedParameterJdbcTemplate(jdbcTemplate).query(
+        "select id, order_state, coalesce(version, 0) as version from orders where id in (:ids)",
+        new MapSqlParameterSource("ids", orderIds),
+        (rs, rowNum) -> new OrderStateRow(
+            rs.getLong("id"),
+            rs.getString("order_state") == null ? null
+                : OrderState.valueOf(rs.getString("order_state")),
+            rs.getInt("version")));
+  }
+
+  public record Transition(long orderId, int expectedVersion) {
+
+  }
+}
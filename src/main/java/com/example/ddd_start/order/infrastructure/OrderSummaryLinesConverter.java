@@ -0,0 +1,44 @@
+package com.example.ddd_start.order.infrastructure;
+
+import com.example.ddd_start.order.domain.OrderSummaryLine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * 주문 요약 라인 목록 <-> JSON 문자열
+ */
+@Converter
+public class OrderSummaryLinesConverter implements
+    AttributeConverter<List<OrderSummaryLine>, String> {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private static final TypeReference<List<OrderSummaryLine>> LINES_TYPE = new TypeReference<>() {
+  };
+
+  @Override
+  public String convertToDatabaseColumn(List<OrderSummaryLine> lines) {
+    try {
+      return OBJECT_MAPPER.writeValueAsString(lines == null ? List.of() : lines);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("주문 요약 라인을 JSON으로 변환할 수 없습니다.", e);
+    }
+  }
+
+  @Override
+  public List<OrderSummaryLine> convertToEntityAttribute(String json) {
+    if (json == null || json.isBlank()) {
+      return List.of();
+    }
+    try {
+      return OBJECT_MAPPER.readValue(json, LINES_TYPE);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("주문 요약 라인 JSON을 읽을 수 없습니다.", e);
+    }
+  }
+}
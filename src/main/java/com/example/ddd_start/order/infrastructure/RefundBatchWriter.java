@@ -0,0 +1,57 @@
+package com.example.ddd_start.order.infrastructure;
+
+import com.example.ddd_start.order.domain.value.RefundState;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 환불 작업자용 조회/선점 JDBC
+ * - 대기 환불 = refund_state가 REFUND_START이고 refund_retry_at이 지났거나 없는 주문
+ * - 선점은 refund_retry_at을 임대 만료 시각으로 미루는 조건부 UPDATE, 행별 변경 건수로 성공 여부 판단
+ * - 처리 중 프로세스가 죽으면 임대가 끝난 뒤 다시 대기 환불로 조회되므로 DB 상태만으로 재개 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class RefundBatchWriter {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public List<Long> findPendingIds(Instant now, int limit) {
+    return jdbcTemplate.queryForList("select id from orders where refund_state = ? "
+            + "and (refund_retry_at is null or refund_retry_at <= ?) order by id limit ?",
+        Long.class, RefundState.REFUND_START.name(), Timestamp.from(now), limit);
+  }
+
+  /**
+   * 아직 대기 상태인 주문만 leaseUntil까지 선점하고 선점한 id를 반환
+   */
+  public List<Long> claim(List<Long> orderIds, Instant now, Instant leaseUntil) {
+    if (orderIds.isEmpty()) {
+      return List.of();
+    }
+    Timestamp nowTs = Timestamp.from(now);
+    Timestamp leaseTs = Timestamp.from(leaseUntil);
+    int[] counts = jdbcTemplate.batchUpdate("update orders set refund_retry_at = ? "
+            + "where id = ? and refund_state = ? "
+            + "and (refund_retry_at is null or refund_retry_at <= ?)",
+        orderIds, orderIds.size(), (ps, orderId) -> {
+          ps.setTimestamp(1, leaseTs);
+          ps.setLong(2, orderId);
+          ps.setString(3, RefundState.REFUND_START.name());
+          ps.setTimestamp(4, nowTs);
+        })[0];
+
+    List<Long> claimed = new ArrayList<>(orderIds.size());
+    for (int i = 0; i < orderIds.size(); i++) {
+      if (counts[i] > 0) {
+        claimed.add(orderIds.get(i));
+      }
+    }
+    return claimed;
+  }
+}
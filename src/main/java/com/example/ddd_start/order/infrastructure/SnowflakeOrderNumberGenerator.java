@@ -0,0 +1,78 @@
+package com.example.ddd_start.order.infrastructure;
+
+import com.example.ddd_start.order.domain.OrderNumberGenerator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * snowflake 방식 주문 번호 발급기
+ * - 63bit = 경과 시간(ms, 41bit) | 노드 id(10bit) | 밀리초 내 순번(12bit)
+ * - (경과 시간, 순번)을 long 하나에 담아 CAS로 갱신하므로 락 없이 동시에 발급 가능
+ * - 같은 밀리초에 순번(4096개)을 다 쓰거나 시계가 뒤로 가면 다음 밀리초를 미리 당겨 써서 단조 증가 유지
+ * - 13자리 Crockford base32(혼동되는 I, L, O, U 제외)로 표현, 자릿수가 고정이라 문자열 순서 = 발급 순서
+ * - 인스턴스가 여러 대면 order.number.node-id 를 서로 다르게 설정해야 함
+ */
+@Component
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+  // 2024-01-01T00:00:00Z
+  static final long EPOCH_MILLIS = 1_704_067_200_000L;
+  static final int NODE_BITS = 10;
+  static final int SEQUENCE_BITS = 12;
+  static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+  static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  static final int LENGTH = 13;
+  private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private final long nodeId;
+  private final LongSupplier clock;
+  // (경과 시간 << SEQUENCE_BITS) | 순번
+  private final AtomicLong state = new AtomicLong();
+
+  @Autowired
+  public SnowflakeOrderNumberGenerator(@Value("${order.number.node-id:0}") long nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  SnowflakeOrderNumberGenerator(long nodeId, LongSupplier clock) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException("order.number.node-id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+    }
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  @Override
+  public String nextOrderNumber() {
+    return encode(nextId());
+  }
+
+  public long nextId() {
+    while (true) {
+      long current = state.get();
+      long elapsed = clock.getAsLong() - EPOCH_MILLIS;
+      // 순번이 넘치면 자연스럽게 경과 시간 자리로 올림
+      long next = elapsed > (current >>> SEQUENCE_BITS)
+          ? elapsed << SEQUENCE_BITS
+          : current + 1;
+      if (state.compareAndSet(current, next)) {
+        long timestamp = next >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+            | (nodeId << SEQUENCE_BITS)
+            | (next & SEQUENCE_MASK);
+      }
+    }
+  }
+
+  static String encode(long id) {
+    char[] buf = new char[LENGTH];
+    for (int i = LENGTH - 1; i >= 0; i--) {
+      buf[i] = ALPHABET[(int) (id & 31)];
+      id >>>= 5;
+    }
+    return new String(buf);
+  }
+}
@@ -1,5 +1,6 @@
 package com.example.ddd_start.order.presentation;
 
+import com.example.ddd_start.common.application.idempotency.IdempotencyService;
 import com.example.ddd_start.order.application.model.CartDto;
 import com.example.ddd_start.order.application.service.CartService;
 import com.example.ddd_start.order.application.service.UpdateCartCommand;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CartController {
 
   private final CartService cartService;
+  private final IdempotencyService idempotencyService;
 
   @GetMapping("/carts")
   public ResponseEntity<List<CartDto>> printAllCarts(Authentication authentication) {
@@ -33,13 +36,17 @@ public class CartController {
   }
 
   @PostMapping("/carts")
-  public ResponseEntity addCart(@RequestBody AddCartRequest req, Authentication authentication) {
-    Long cartId = cartService.saveByUsername(
-        authentication.getName(),
-        req.productId(),
-        req.quantity()
-    );
-    return ResponseEntity.ok(new AddCartResponse(cartId, "장바구니에 정상적으로 추가되었습니다."));
+  public ResponseEntity addCart(@RequestBody AddCartRequest req, Authentication authentication,
+      @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+    return idempotencyService.execute("carts", authentication.getName(), idempotencyKey, req,
+        () -> {
+          Long cartId = cartService.saveByUsername(
+              authentication.getName(),
+              req.productId(),
+              req.quantity()
+          );
+          return ResponseEntity.ok(new AddCartResponse(cartId, "장바구니에 정상적으로 추가되었습니다."));
+        });
   }
 
   @PutMapping("/carts")
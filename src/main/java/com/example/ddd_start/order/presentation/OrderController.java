@@ -1,34 +1,66 @@
 package com.example.ddd_start.order.presentation;
 
+import com.example.ddd_start.common.application.idempotency.IdempotencyService;
 import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
 import com.example.ddd_start.common.domain.exception.ValidationErrorException;
 import com.example.ddd_start.coupon.Exception.CouponAlreadyUsedException;
+import com.example.ddd_start.order.application.model.BulkOrderTransitionResult;
 import com.example.ddd_start.order.application.model.ChangeOrderShippingInfoCommand;
 import com.example.ddd_start.order.application.model.FindOrderResponse;
+import com.example.ddd_start.order.application.model.OrderDetailResponse;
+import com.example.ddd_start.order.application.model.OrderExportFormat;
+import com.example.ddd_start.order.application.model.OrderIntakeStatus;
+import com.example.ddd_start.order.application.model.OrderSlice;
+import com.example.ddd_start.order.application.model.OrderTransitionCommand;
 import com.example.ddd_start.order.application.model.PlaceOrderCommand;
 import com.example.ddd_start.order.application.model.UpdateOrderCommand;
+import com.example.ddd_start.order.application.service.BulkOrderTransitionService;
+import com.example.ddd_start.order.application.service.OrderExportService;
+import com.example.ddd_start.order.application.service.OrderIntakeService;
 import com.example.ddd_start.order.application.service.OrderService;
+import com.example.ddd_start.order.application.service.OrderSummaryProjector;
+import com.example.ddd_start.order.application.service.RefundWorker;
+import com.example.ddd_start.order.domain.OrderSearchCondition;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.presentation.model.PlaceOrderAcceptedResponse;
 import com.example.ddd_start.order.presentation.model.PlaceOrderRequest;
 import com.example.ddd_start.order.presentation.model.PlaceOrderResponse;
 import com.example.ddd_start.order.presentation.model.UpdateOrderRequest;
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class OrderController {
 
   private final OrderService orderService;
+  private final OrderIntakeService orderIntakeService;
+  private final OrderExportService orderExportService;
+  private final BulkOrderTransitionService bulkOrderTransitionService;
+  private final OrderSummaryProjector orderSummaryProjector;
+  private final IdempotencyService idempotencyService;
+  private final RefundWorker refundWorker;
 
   @GetMapping("/orders/my-order")
   public ResponseEntity findMyOrder(Authentication authentication) {
@@ -40,19 +72,52 @@ public class OrderController {
     }
   }
 
+  @GetMapping("/orders/my-order/scroll")
+  public ResponseEntity scrollMyOrder(
+      Authentication authentication,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") Integer size) {
+    try {
+      OrderSlice slice = orderService.scrollMyOrdersByUsername(
+          authentication.getName(), cursor, size);
+      return ResponseEntity.ok(slice);
+    } catch (NoMemberFoundException e) {
+      return ResponseEntity.badRequest().body("회원 정보를 찾을 수 없습니다.");
+    }
+  }
+
+  /**
+   * Idempotency-Key 헤더가 있으면 같은 키의 재시도에 첫 응답을 그대로 돌려줌
+   */
   @PostMapping("/orders/place-order")
-  public ResponseEntity order(@RequestBody PlaceOrderRequest req, BindingResult bindingResult) {
+  public ResponseEntity order(@RequestBody PlaceOrderRequest req, BindingResult bindingResult,
+      @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+      Authentication authentication) {
+    return idempotencyService.execute("place-order", authentication.getName(), idempotencyKey,
+        req, () -> placeOrder(req, bindingResult));
+  }
+
+  private ResponseEntity placeOrder(PlaceOrderRequest req, BindingResult bindingResult) {
     try {
-      Long orderId = orderService.placeOrderV2(
-          new PlaceOrderCommand(
-              req.orderLines(),
-              req.shippingInfo(),
-              req.message(),
-              req.orderer(),
-              req.paymentInfo(),
-              req.coupons()
-          )
+      PlaceOrderCommand command = new PlaceOrderCommand(
+          req.orderLines(),
+          req.shippingInfo(),
+          req.message(),
+          req.orderer(),
+          req.paymentInfo(),
+          req.coupons()
       );
+      if (orderIntakeService.isEnabled()) {
+        OrderIntakeStatus status = orderIntakeService.submit(command);
+        String statusUrl = "/orders/intake/" + status.orderNumber();
+        return ResponseEntity
+            .accepted()
+            .location(URI.create(statusUrl))
+            .body(new PlaceOrderAcceptedResponse(
+                "주문이 접수되었습니다.", status.orderNumber(), statusUrl));
+      }
+
+      Long orderId = orderService.placeOrderV2(command);
       return ResponseEntity
           .ok(new PlaceOrderResponse("주문이 정상적으로 완료되었습니다.", orderId));
     } catch (ValidationErrorException e) {
@@ -72,6 +137,95 @@ public class OrderController {
     }
   }
 
+  @GetMapping("/orders/{orderId}")
+  public ResponseEntity findMyOrderDetail(Authentication authentication,
+      @PathVariable Long orderId) {
+    try {
+      OrderDetailResponse detail = orderService.findMyOrderDetail(
+          authentication.getName(), orderId);
+      return ResponseEntity.ok(detail);
+    } catch (NoMemberFoundException e) {
+      return ResponseEntity.badRequest().body("회원 정보를 찾을 수 없습니다.");
+    }
+  }
+
+  @GetMapping("/admin/orders/{orderId}")
+  public ResponseEntity<OrderDetailResponse> findOrderDetail(@PathVariable Long orderId) {
+    return ResponseEntity.ok(orderService.findOrderDetail(orderId, null));
+  }
+
+  /**
+   * 비동기 접수 상태, 로그인한 회원의 주문만 조회되고 다른 회원의 주문 번호는 404
+   */
+  @GetMapping("/orders/intake/{orderNumber}")
+  public ResponseEntity findIntakeStatus(@PathVariable String orderNumber,
+      Authentication authentication) {
+    try {
+      return ResponseEntity.ok(
+          orderIntakeService.findMyStatus(authentication.getName(), orderNumber)
+              .orElseThrow(() -> new NoSuchElementException("접수된 주문이 없습니다.")));
+    } catch (NoMemberFoundException e) {
+      return ResponseEntity.badRequest().body("회원 정보를 찾을 수 없습니다.");
+    }
+  }
+
+  /**
+   * 관리자 주문 내보내기, 응답을 스트리밍하므로 건수와 무관하게 서버 메모리 사용량이 일정
+   * - format: csv(기본) | ndjson
+   * - from 이상 to 미만 (ISO-8601)
+   */
+  @GetMapping("/admin/orders/export")
+  public ResponseEntity<StreamingResponseBody> exportOrders(
+      @RequestParam(required = false) String format,
+      @RequestParam(required = false) Long ordererId,
+      @RequestParam(required = false) OrderState orderState,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant from,
+      @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant to) {
+    OrderExportFormat exportFormat = OrderExportFormat.from(format);
+    OrderSearchCondition condition = new OrderSearchCondition(ordererId, orderState);
+    String filename = "orders-" + Instant.now().getEpochSecond() + "." + exportFormat.getExtension();
+
+    StreamingResponseBody body = out ->
+        orderExportService.export(condition, from, to, exportFormat, out);
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+
+  /**
+   * 주문 상태 일괄 변경 (예: 출고 처리), 주문별 결과와 충돌/불가 건을 함께 반환
+   */
+  @PostMapping("/admin/orders/transitions")
+  public ResponseEntity<BulkOrderTransitionResult> transitOrders(
+      @RequestBody List<OrderTransitionCommand> commands) {
+    return ResponseEntity.ok(bulkOrderTransitionService.transit(commands));
+  }
+
+  /**
+   * order_summary 백그라운드 재구축, onlyMissing=true면 요약이 없는 주문만 생성
+   */
+  @PostMapping("/admin/orders/summary/rebuild")
+  public ResponseEntity<Void> rebuildOrderSummary(
+      @RequestParam(defaultValue = "false") boolean onlyMissing) {
+    orderSummaryProjector.rebuildInBackground(onlyMissing);
+    return ResponseEntity.accepted().build();
+  }
+
+  /**
+   * 재시도 횟수를 넘겨 REFUND_FAILED가 된 주문의 환불을 다시 시도
+   */
+  @PostMapping("/admin/orders/{orderId}/refund/retry")
+  public ResponseEntity retryRefund(@PathVariable Long orderId) {
+    try {
+      refundWorker.retry(orderId);
+      return ResponseEntity.accepted().build();
+    } catch (IllegalStateException e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
   @PostMapping("/orders/shipping-info")
   public ResponseEntity changeShippingInfo(ChangeOrderShippingInfoCommand command) {
     try {
@@ -0,0 +1,5 @@
+package com.example.ddd_start.order.presentation.model;
+
+public record PlaceOrderAcceptedResponse(String message, String orderNumber, String statusUrl) {
+
+}
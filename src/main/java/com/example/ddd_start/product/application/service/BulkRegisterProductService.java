@@ -0,0 +1,156 @@
+package com.example.ddd_start.product.application.service;
+
+import com.example.ddd_start.category.domain.Category;
+import com.example.ddd_start.category.domain.CategoryRepository;
+import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.product.application.service.model.BulkRegisterProductResult;
+import com.example.ddd_start.product.application.service.model.BulkRegisterProductResult.Item;
+import com.example.ddd_start.product.application.service.model.NewProductRequest;
+import com.example.ddd_start.product.domain.Product;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.infrastructure.ProductBatchWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 대량 등록
+ * - 요청 전체의 카테고리 id를 한 번의 쿼리로 검증
+ * - 검증을 통과한 상품은 chunk 단위 트랜잭션에서 JDBC 배치로 저장
+ * - chunk 저장이 실패하면 해당 chunk만 한 건씩 다시 저장해 실패 항목을 가려냄 (다른 chunk는 영향 없음)
+ */
+@Slf4j
+@Service
+public class BulkRegisterProductService {
+
+  private final CategoryRepository categoryRepository;
+  private final ProductBatchWriter productBatchWriter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxItems;
+
+  public BulkRegisterProductService(
+      CategoryRepository categoryRepository,
+      ProductBatchWriter productBatchWriter,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${product.bulk.chunk-size:500}") int chunkSize,
+      @Value("${product.bulk.max-items:10000}") int maxItems) {
+    this.categoryRepository = categoryRepository;
+    this.productBatchWriter = productBatchWriter;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = Math.max(chunkSize, 1);
+    this.maxItems = maxItems;
+  }
+
+  public BulkRegisterProductResult registerProducts(List<NewProductRequest> requests) {
+    if (requests == null || requests.isEmpty()) {
+      throw new IllegalArgumentException("등록할 상품이 없습니다.");
+    }
+    if (requests.size() > maxItems) {
+      throw new IllegalArgumentException("한 번에 최대 " + maxItems + "개까지 등록할 수 있습니다.");
+    }
+
+    Item[] results = new Item[requests.size()];
+    Set<Long> existingCategoryIds = findExistingCategoryIds(requests);
+
+    // 도메인 검증을 통과한 항목만 저장 대상으로 모음
+    List<Integer> indexes = new ArrayList<>();
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      NewProductRequest req = requests.get(i);
+      try {
+        Product product = toProduct(req);
+        if (!existingCategoryIds.contains(req.getCategoryId())) {
+          throw new IllegalArgumentException("존재하지 않는 카테고리입니다.");
+        }
+        indexes.add(i);
+        products.add(product);
+      } catch (IllegalArgumentException e) {
+        results[i] = Item.failure(i, e.getMessage());
+      }
+    }
+
+    for (int from = 0; from < products.size(); from += chunkSize) {
+      int to = Math.min(from + chunkSize, products.size());
+      saveChunk(indexes.subList(from, to), products.subList(from, to), results);
+    }
+
+    List<Item> items = List.of(results);
+    int succeeded = (int) items.stream().filter(Item::success).count();
+    log.info("상품 대량 등록: 요청 {}건, 성공 {}건, 실패 {}건",
+        items.size(), succeeded, items.size() - succeeded);
+    return new BulkRegisterProductResult(items.size(), succeeded, items.size() - succeeded,
+        items);
+  }
+
+  private Set<Long> findExistingCategoryIds(List<NewProductRequest> requests) {
+    Set<Long> requested = requests.stream()
+        .map(NewProductRequest::getCategoryId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+    if (requested.isEmpty()) {
+      return Set.of();
+    }
+    Set<Long> existing = new HashSet<>();
+    categoryRepository.findAllById(requested).stream()
+        .map(Category::getId)
+        .forEach(existing::add);
+    return existing;
+  }
+
+  private Product toProduct(NewProductRequest req) {
+    return new Product(
+        req.getTitle(),
+        req.getSlug(),
+        new Money(req.getPrice()),
+        req.getDescription(),
+        req.getCategoryId(),
+        req.getImages(),
+        null
+    );
+  }
+
+  private void saveChunk(List<Integer> indexes, List<Product> products, Item[] results) {
+    try {
+      List<Long> ids = transactionTemplate.execute(status -> insert(products));
+      for (int i = 0; i < ids.size(); i++) {
+        results[indexes.get(i)] = Item.success(indexes.get(i), ids.get(i));
+      }
+    } catch (RuntimeException e) {
+      log.warn("상품 대량 등록 chunk 실패, 한 건씩 재시도: {}건 ({})", products.size(),
+          e.getMessage());
+      for (int i = 0; i < products.size(); i++) {
+        int index = indexes.get(i);
+        Product product = products.get(i);
+        try {
+          List<Long> ids = transactionTemplate.execute(status -> insert(List.of(product)));
+          results[index] = Item.success(index, ids.get(0));
+        } catch (RuntimeException single) {
+          results[index] = Item.failure(index, "상품을 저장할 수 없습니다.");
+        }
+      }
+    }
+  }
+
+  private List<Long> insert(List<Product> products) {
+    List<Long> ids = productBatchWriter.insertProducts(products);
+    productBatchWriter.insertImages(ids, products);
+    for (int i = 0; i < ids.size(); i++) {
+      // AFTER_COMMIT 리스너(검색/가격 색인, 카테고리 요약, 썸네일)에 전달
+      eventPublisher.publishEvent(new ProductRegisteredEvent(ids.get(i), products.get(i)));
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.ddd_start.product.application.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 카테고리별 상품 수 조회
+ * - 카테고리 모듈이 상품 모듈의 인메모리 요약 구현(infrastructure)에 직접 의존하지 않도록 두는 포트
+ */
+public interface CategoryProductCounts {
+
+  /**
+   * 카테고리 id -> 상품 수 (상품이 없는 카테고리는 포함되지 않음)
+   */
+  Map<Long, Integer> counts();
+
+  /**
+   * 상품 수가 바뀔 때마다 증가, 카테고리 목록 ETag에 포함
+   */
+  long revision();
+
+  Instant lastModified();
+}
@@ -1,10 +1,13 @@
 package com.example.ddd_start.product.application.service;
 
+import com.example.ddd_start.common.application.event.Events;
 import com.example.ddd_start.product.domain.Product;
 import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductDeletedEvent;
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -17,7 +20,9 @@ public class DeleteProductService {
         .orElseThrow(NoSuchElementException::new);
   }
 
+  @Transactional
   public void delete(Long productId) {
     productRepository.deleteById(productId);
+    Events.raise(new ProductDeletedEvent(productId));
   }
 }
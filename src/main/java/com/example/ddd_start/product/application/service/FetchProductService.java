@@ -1,54 +1,175 @@
 package com.example.ddd_start.product.application.service;
 
+import com.example.ddd_start.category.application.service.CategoryCatalog;
 import com.example.ddd_start.category.application.service.model.CategoryDTO;
-import com.example.ddd_start.category.domain.event.FetchCategoryEvent;
+import com.example.ddd_start.category.domain.Category;
+import com.example.ddd_start.category.domain.CategoryRepository;
+import com.example.ddd_start.category.infrastructure.CategoryBatchWriter;
 import com.example.ddd_start.product.application.service.model.ProductDTO;
+import com.example.ddd_start.product.application.service.model.ProductImportResult;
+import com.example.ddd_start.product.domain.Product;
 import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.infrastructure.ProductBatchWriter;
+import com.example.ddd_start.product.infrastructure.ProductFeedReader;
 import com.example.ddd_start.product.infrastructure.ProductMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 외부 상품 피드 적재
+ * - 피드를 스트리밍으로 읽어 chunk 단위로 저장하므로 전체 다운로드를 기다리지 않고 메모리도 일정
+ * - 카테고리: chunk에 등장한 id를 한 번에 조회해 없는 것만 배치 저장
+ * - 상품: 기존 제목을 IN 쿼리 한 번으로 걸러내고 상품/이미지를 JDBC 배치로 저장
+ * - chunk마다 트랜잭션을 커밋해 긴 트랜잭션을 피함
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FetchProductService {
 
-  private final static String DUMMY_DATA_API_URL = "https://api.escuelajs.co/api/v1/products";
+  private final ProductFeedReader productFeedReader;
   private final ProductRepository productRepository;
-  private final ProductMapper productMapper;
+  private final CategoryRepository categoryRepository;
+  private final ProductBatchWriter productBatchWriter;
+  private final CategoryBatchWriter categoryBatchWriter;
+  private final CategoryCatalog categoryCatalog;
   private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final String feedUrl;
+  private final int chunkSize;
 
-  @Transactional
-  public void fetchProducts() {
-    RestTemplate restTemplate = new RestTemplate();
-    HttpHeaders httpHeaders = new HttpHeaders(); //메타 정보(기본 정보)
-
-    HttpEntity<String> request = new HttpEntity<>(httpHeaders); //요청할 데이터를 담은 객체
-    ResponseEntity<List<ProductDTO>> response = restTemplate.exchange(
-        DUMMY_DATA_API_URL,
-        HttpMethod.GET,
-        request,
-        new ParameterizedTypeReference<List<ProductDTO>>() {
-        }
-    );
+  public FetchProductService(
+      ProductFeedReader productFeedReader,
+      ProductRepository productRepository,
+      CategoryRepository categoryRepository,
+      ProductBatchWriter productBatchWriter,
+      CategoryBatchWriter categoryBatchWriter,
+      CategoryCatalog categoryCatalog,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${product.import.feed-url:https://api.escuelajs.co/api/v1/products}") String feedUrl,
+      @Value("${product.import.chunk-size:500}") int chunkSize) {
+    this.productFeedReader = productFeedReader;
+    this.productRepository = productRepository;
+    this.categoryRepository = categoryRepository;
+    this.productBatchWriter = productBatchWriter;
+    this.categoryBatchWriter = categoryBatchWriter;
+    this.categoryCatalog = categoryCatalog;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.feedUrl = feedUrl;
+    this.chunkSize = Math.max(chunkSize, 1);
+  }
 
-    List<ProductDTO> products = response.getBody();
-    products.forEach(productDTO -> {
-      CategoryDTO category = productDTO.getCategory();
-      eventPublisher.publishEvent(
-          new FetchCategoryEvent(category));
-      if (!productRepository.existsByTitle(productDTO.getTitle())) {
-        productRepository.save(productMapper.toEntity(productDTO));
-      }
+  public ProductImportResult fetchProducts() {
+    long startedAt = System.currentTimeMillis();
+    int[] totals = new int[4]; // 상품, 이미지, 카테고리, 건너뜀
+
+    long fetched = productFeedReader.read(feedUrl, chunkSize, chunk -> {
+      List<Category> insertedCategories = new ArrayList<>();
+      int[] counts = transactionTemplate.execute(status -> {
+        insertedCategories.addAll(upsertCategories(chunk));
+        return importChunk(chunk);
+      });
+      // 커밋 이후에만 카탈로그에 반영
+      insertedCategories.forEach(categoryCatalog::put);
+      totals[0] += counts[0];
+      totals[1] += counts[1];
+      totals[2] += insertedCategories.size();
+      totals[3] += chunk.size() - counts[0];
     });
+
+    ProductImportResult result = new ProductImportResult(
+        (int) fetched,
+        totals[3],
+        totals[0],
+        totals[1],
+        totals[2],
+        System.currentTimeMillis() - startedAt);
+    log.info("상품 적재 완료: 수신 {}건, 건너뜀 {}건, 상품 {}건, 이미지 {}건, 카테고리 {}건, {}ms",
+        result.fetched(), result.skipped(), result.insertedProducts(), result.insertedImages(),
+        result.insertedCategories(), result.elapsedMillis());
+    return result;
+  }
+
+  /**
+   * 이전 chunk에서 저장된 제목은 커밋되어 있으므로 IN 쿼리로 걸러지고,
+   * 같은 chunk 안의 중복 제목은 첫 번째 항목만 사용
+   *
+   * @return {저장된 상품 수, 저장된 이미지 수}
+   */
+  private int[] importChunk(List<ProductDTO> chunk) {
+    Map<String, ProductDTO> byTitle = new LinkedHashMap<>();
+    chunk.stream()
+        .filter(p -> p.getTitle() != null)
+        .forEach(p -> byTitle.putIfAbsent(p.getTitle(), p));
+
+    Set<String> existingTitles = new HashSet<>(
+        productRepository.findExistingTitles(byTitle.keySet()));
+    List<Product> newProducts = byTitle.values().stream()
+        .filter(p -> !existingTitles.contains(p.getTitle()))
+        .map(ProductMapper::toEntity)
+        .toList();
+
+    List<Long> ids = productBatchWriter.insertProducts(newProducts);
+    int images = productBatchWriter.insertImages(ids, newProducts);
+    for (int i = 0; i < ids.size(); i++) {
+      // AFTER_COMMIT 리스너(검색 색인)에 전달
+      eventPublisher.publishEvent(new ProductRegisteredEvent(ids.get(i), newProducts.get(i)));
+    }
+    return new int[]{newProducts.size(), images};
   }
 
+  /**
+   * chunk에 등장한 카테고리 중 저장되지 않은 것만 한 번의 배치로 저장
+   */
+  private List<Category> upsertCategories(List<ProductDTO> products) {
+    Map<Long, CategoryDTO> feedCategories = new LinkedHashMap<>();
+    products.stream()
+        .map(ProductDTO::getCategory)
+        .filter(Objects::nonNull)
+        .filter(c -> c.getId() != null)
+        .filter(c -> !categoryCatalog.contains(c.getId()))
+        .forEach(c -> feedCategories.putIfAbsent(c.getId(), c));
+    if (feedCategories.isEmpty()) {
+      return List.of();
+    }
+
+    Set<Long> existingIds = new HashSet<>();
+    categoryRepository.findAllById(feedCategories.keySet())
+        .forEach(c -> existingIds.add(c.getId()));
+    List<Category> missing = feedCategories.values().stream()
+        .filter(c -> !existingIds.contains(c.getId()))
+        .map(FetchProductService::toCategory)
+        .toList();
+    categoryBatchWriter.insertAll(missing);
+    return missing;
+  }
+
+  private static Category toCategory(CategoryDTO dto) {
+    return new Category(
+        dto.getId(),
+        dto.getName(),
+        dto.getSlug(),
+        dto.getImage(),
+        parseInstant(dto.getCreationAt()),
+        parseInstant(dto.getUpdatedAt())
+    );
+  }
+
+  private static Instant parseInstant(String value) {
+    return value == null ? null : Instant.parse(value);
+  }
 }
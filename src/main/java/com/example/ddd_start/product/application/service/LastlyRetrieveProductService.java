@@ -1,49 +1,96 @@
 package com.example.ddd_start.product.application.service;
 
-import com.example.ddd_start.category.domain.Category;
-import com.example.ddd_start.category.domain.CategoryRepository;
+import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
 import com.example.ddd_start.member.domain.Member;
 import com.example.ddd_start.member.domain.MemberRepository;
 import com.example.ddd_start.product.application.service.model.ProductDTO;
-import com.example.ddd_start.product.domain.LastlyRetrieveProduct;
 import com.example.ddd_start.product.domain.LastlyRetrieveProductRepository;
-import com.example.ddd_start.product.domain.Product;
-import com.example.ddd_start.product.domain.ProductRepository;
-import com.example.ddd_start.product.infrastructure.ProductMapper;
+import com.example.ddd_start.product.infrastructure.RecentlyViewedBuffer;
+import com.example.ddd_start.product.infrastructure.RecentlyViewedBuffer.Entry;
+import com.example.ddd_start.product.infrastructure.RecentlyViewedWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import javax.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import javax.persistence.EntityNotFoundException;
-import java.time.Instant;
-import java.util.List;
 
+/**
+ * 최근 본 상품
+ * - 기록/조회는 회원별 인메모리 링 버퍼에서 처리 (insert 없음)
+ * - 기록 시 회원은 로그인 사용자로 정하고, 상품은 상세 캐시로 존재 여부를 확인한 뒤에만 버퍼에 넣음
+ * - 버퍼 변경분은 주기적으로 lastly_retrieve_product에 일괄 반영하며 회원당 최대 7건만 유지
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LastlyRetrieveProductService {
 
-  private final MemberRepository memberRepository;
-  private final ProductRepository productRepository;
   private final LastlyRetrieveProductRepository lastlyRetrieveProductRepository;
+  private final RecentlyViewedBuffer recentlyViewedBuffer;
+  private final RecentlyViewedWriter recentlyViewedWriter;
+  private final PrintProductService printProductService;
+  private final MemberRepository memberRepository;
 
-  @Transactional
-  public void saveLastlyRetrieveProduct(Long memberId, Long productId) {
-    Member member = memberRepository.findById(memberId).orElseThrow(EntityNotFoundException::new);
-    Product product = productRepository.findById(productId)
-        .orElseThrow(EntityNotFoundException::new);
-    lastlyRetrieveProductRepository.save(new LastlyRetrieveProduct(member, product, Instant.now()));
+  /**
+   * @throws NoSuchElementException 없는 상품
+   */
+  public void saveLastlyRetrieveProduct(String username, Long productId)
+      throws NoMemberFoundException {
+    if (productId == null) {
+      throw new IllegalArgumentException("productId는 필수입니다.");
+    }
+    Member member = memberRepository.findMemberByUsername(username)
+        .orElseThrow(NoMemberFoundException::new);
+    printProductService.printProductById(productId);
+    recentlyViewedBuffer.push(member.getId(), productId, this::loadRecentlyViewed);
   }
 
-  @Transactional
+  /**
+   * 상품 정보는 상세 캐시를 통해 조회하며, 그 사이 삭제된 상품은 제외
+   */
   public List<ProductDTO> printLastlyRetrieveProduct(Long memberId) {
-    Member member = memberRepository.findById(memberId).orElseThrow(EntityNotFoundException::new);
-    List<LastlyRetrieveProduct> lastlyRetrieveProducts =
-        lastlyRetrieveProductRepository.findTop7LastlyRetrieveProductByMemberOrderByCreatedAtDesc(
-            member);
-
-    return lastlyRetrieveProducts.stream()
-        .map(LastlyRetrieveProduct::getProduct)
-        .map(it -> ProductMapper.toDto(it, new Category()))
+    return recentlyViewedBuffer.recent(memberId, this::loadRecentlyViewed).stream()
+        .map(this::findProduct)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  private ProductDTO findProduct(Long productId) {
+    try {
+      return printProductService.printProductById(productId);
+    } catch (NoSuchElementException e) {
+      return null;
+    }
+  }
+
+  private List<Entry> loadRecentlyViewed(Long memberId) {
+    return lastlyRetrieveProductRepository.findTop7ByMemberIdOrderByCreatedAtDesc(memberId)
+        .stream()
+        .map(it -> new Entry(it.getProduct().getId(), it.getCreatedAt()))
         .toList();
   }
+
+  @Scheduled(fixedDelayString = "${product.recently-viewed.flush-interval-ms:1000}")
+  public void flushLastlyRetrieveProducts() {
+    Map<Long, List<Entry>> snapshot = recentlyViewedBuffer.drainDirty();
+    if (!snapshot.isEmpty()) {
+      try {
+        recentlyViewedWriter.replace(snapshot);
+      } catch (RuntimeException e) {
+        recentlyViewedBuffer.markDirty(snapshot.keySet());
+        log.warn("최근 본 상품 저장 실패, 다음 주기에 재시도: {}명", snapshot.size(), e);
+        return;
+      }
+    }
+    recentlyViewedBuffer.trim();
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flushLastlyRetrieveProducts();
+  }
 }
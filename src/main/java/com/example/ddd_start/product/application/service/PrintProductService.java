@@ -1,78 +1,246 @@
 package com.example.ddd_start.product.application.service;
 
+import com.example.ddd_start.category.application.service.CategoryCatalog;
 import com.example.ddd_start.category.domain.Category;
-import com.example.ddd_start.category.domain.CategoryRepository;
+import com.example.ddd_start.product.application.service.model.ProductCursor;
 import com.example.ddd_start.product.application.service.model.ProductDTO;
+import com.example.ddd_start.product.application.service.model.ProductSlice;
 import com.example.ddd_start.product.application.service.model.SearchProductCommand;
 import com.example.ddd_start.product.domain.Product;
 import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.dto.ProductSummaryDto;
+import com.example.ddd_start.product.infrastructure.CategoryProductSummary;
+import com.example.ddd_start.product.infrastructure.ProductDetailCache;
+import com.example.ddd_start.product.infrastructure.ProductDetailCache.ProductDetailCacheStats;
 import com.example.ddd_start.product.infrastructure.ProductMapper;
+import com.example.ddd_start.product.infrastructure.ProductPriceIndex;
+import com.example.ddd_start.product.infrastructure.ProductSearchIndex;
+import com.example.ddd_start.product.infrastructure.ProductSearchIndex.SearchHits;
+import com.example.ddd_start.product.infrastructure.ProductThumbnailRegistry;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class PrintProductService {
 
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final ProductRepository productRepository;
-  private final CategoryRepository categoryRepository;
+  private final CategoryCatalog categoryCatalog;
+  private final ProductSearchIndex productSearchIndex;
+  private final ProductDetailCache productDetailCache;
+  private final ProductPriceIndex productPriceIndex;
+  private final CategoryProductSummary categoryProductSummary;
+  private final ProductThumbnailRegistry thumbnailRegistry;
 
-  public List<ProductDTO> printAllProducts(Pageable pageable) {
-    List<Product> products = productRepository.findAll(pageable).getContent();
-    List<Category> categories = categoryRepository.findAll();
-    List<ProductDTO> productDTO = new ArrayList<>();
+  /**
+   * 상품 목록 조회
+   * - 엔티티 대신 목록용 프로젝션을 한 번의 쿼리로 조회 (이미지/스토어 N+1 제거)
+   */
+  public List<ProductSummaryDto> printAllProducts(Pageable pageable) {
+    return thumbnailRegistry.apply(productRepository.findProductSummaries(pageable));
+  }
 
-    for (Product product : products) {
-      Category category = categories.stream()
-          .filter(it -> Objects.equals(it.getId(), product.getCategoryId()))
-          .findFirst()
-          .orElse(new Category());
+  /**
+   * 상품 상세 조회
+   * - 상세 캐시에 없을 때만 DB에서 적재 (수정/삭제 시 커밋 직후 무효화)
+   */
+  public ProductDTO printProductById(Long productId) {
+    return productDetailCache.get(productId, this::loadProductDetail);
+  }
 
-      ProductDTO productDto = ProductMapper.toDto(product, category);
-      productDTO.add(productDto);
+  /**
+   * 조건부 GET 검사용 상품 수정 시각
+   * - 상세 캐시에 있으면 캐시 값을, 없으면 updatedAt 한 컬럼만 조회 (엔티티/이미지 로딩 없음)
+   */
+  public Instant findProductLastModified(Long productId) {
+    ProductDTO cached = productDetailCache.getIfPresent(productId);
+    if (cached != null) {
+      return Instant.parse(cached.getUpdatedAt());
     }
-    return productDTO;
+    return productRepository.findUpdatedAtById(productId)
+        .orElseThrow(() -> new NoSuchElementException("Product not found"));
   }
 
-  public ProductDTO printProductById(Long productId) {
+  private ProductDTO loadProductDetail(Long productId) {
     Product product = productRepository.findById(productId)
         .orElseThrow(() -> new NoSuchElementException("Product not found"));
-    Category category = categoryRepository.findById(product.getCategoryId())
-        .orElse(new Category());
+    return toDetail(product);
+  }
+
+  private Map<Long, ProductDTO> loadProductDetails(List<Long> productIds) {
+    return productRepository.findAllWithImagesByIdIn(productIds).stream()
+        .collect(Collectors.toMap(Product::getId, this::toDetail));
+  }
+
+  private ProductDTO toDetail(Product product) {
+    Category category = categoryCatalog.getOrEmpty(product.getCategoryId());
+
+    ProductDTO dto = ProductMapper.toDto(product, category);
+    // 캐시에 영속성 컨텍스트의 지연 로딩 컬렉션이 남지 않도록 복사
+    dto.setImages(product.getImages() == null ? null : new ArrayList<>(product.getImages()));
+    return dto;
+  }
+
+  public ProductDetailCacheStats printProductDetailCacheStats() {
+    return productDetailCache.stats();
+  }
+
+  /**
+   * 상품 검색
+   * - 인메모리 역색인에서 관련도 순 id 한 페이지를 구한 뒤 요약 정보를 한 번에 조회
+   * - 기동 직후 색인이 아직 구축되지 않았다면 DB LIKE 검색으로 대체
+   */
+  public Page<ProductSummaryDto> searchProducts(SearchProductCommand cmd) {
+    if (!productSearchIndex.isReady()) {
+      return productRepository
+          .searchPageProductSummaries(
+              cmd.title(),
+              cmd.pageable()
+          )
+          .map(thumbnailRegistry::apply);
+    }
+
+    Pageable pageable = cmd.pageable();
+    SearchHits hits = productSearchIndex.search(
+        cmd.title(), pageable.getOffset(), pageable.getPageSize());
+    return new PageImpl<>(
+        orderByIds(productRepository.findProductSummariesByIds(hits.productIds()),
+            hits.productIds()),
+        pageable,
+        hits.totalHits());
+  }
+
+  private List<ProductSummaryDto> orderByIds(List<ProductSummaryDto> summaries, List<Long> ids) {
+    Map<Long, ProductSummaryDto> byId = summaries.stream()
+        .collect(Collectors.toMap(ProductSummaryDto::id, s -> s));
+    return ids.stream()
+        .map(byId::get)
+        .filter(Objects::nonNull)
+        .map(thumbnailRegistry::apply)
+        .toList();
+  }
+
+  public Page<ProductSummaryDto> printAllProductsOrderByLowPrice(Pageable pageable) {
+    return printAllProductsOrderByPrice(pageable, true);
+  }
+
+  public Page<ProductSummaryDto> printAllProductsOrderByHighPrice(Pageable pageable) {
+    return printAllProductsOrderByPrice(pageable, false);
+  }
+
+  /**
+   * 가격순 목록
+   * - 인메모리 가격 색인에서 페이지의 id를 구한 뒤 요약 정보를 한 번에 조회 (정렬/count 쿼리 없음)
+   * - 기동 직후 색인이 아직 구축되지 않았다면 DB 정렬로 대체
+   */
+  private Page<ProductSummaryDto> printAllProductsOrderByPrice(Pageable pageable,
+      boolean ascending) {
+    if (!productPriceIndex.isReady()) {
+      return productRepository.findPageProductSummariesOrderByPrice(pageable, ascending)
+          .map(thumbnailRegistry::apply);
+    }
 
-    return ProductMapper.toDto(product, category);
+    List<Long> ids = productPriceIndex.page(
+        pageable.getOffset(), pageable.getPageSize(), ascending);
+    return new PageImpl<>(
+        orderByIds(productRepository.findProductSummariesByIds(ids), ids),
+        pageable,
+        productPriceIndex.size());
   }
 
-  public Page<Product> searchProducts(SearchProductCommand cmd) {
-    return productRepository
-        .findPageProductByTitleContaining(
-            cmd.title(),
-            cmd.pageable()
-        );
+  public ProductSlice scrollProducts(String cursor, int size) {
+    ProductCursor after = ProductCursor.decode(cursor, false);
+    int pageSize = clampPageSize(size);
+    List<ProductSummaryDto> rows = productRepository.findProductSummariesAfter(
+        after == null ? null : after.id(), pageSize + 1);
+    return toSlice(rows, pageSize, false);
   }
 
-  public Page<Product> printAllProductsOrderByLowPrice(Pageable pageable) {
-    return productRepository.findAll(pageable);
+  public ProductSlice scrollProductsOrderByPrice(String cursor, int size, boolean ascending) {
+    ProductCursor after = ProductCursor.decode(cursor, true);
+    int pageSize = clampPageSize(size);
+    List<ProductSummaryDto> rows = productRepository.findProductSummariesOrderByPriceAfter(
+        after == null ? null : after.price(),
+        after == null ? null : after.id(),
+        pageSize + 1,
+        ascending);
+    return toSlice(rows, pageSize, true);
   }
 
-  public Page<Product> printAllProductsOrderByHighPrice(Pageable pageable) {
-    return productRepository.findAll(pageable);
+  public ProductSlice scrollProductsByCategoryId(Long categoryId, String cursor, int size) {
+    ProductCursor after = ProductCursor.decode(cursor, false);
+    int pageSize = clampPageSize(size);
+    List<ProductSummaryDto> rows = productRepository.findProductSummariesByCategoryAfter(
+        categoryId, after == null ? null : after.id(), pageSize + 1);
+    return toSlice(rows, pageSize, false);
   }
 
+  private static int clampPageSize(int size) {
+    return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+  }
+
+  /**
+   * size + 1건을 조회해 다음 페이지 존재 여부를 판단 (count 쿼리 없음)
+   */
+  private ProductSlice toSlice(List<ProductSummaryDto> rows, int size, boolean priceOrdered) {
+    boolean hasNext = rows.size() > size;
+    List<ProductSummaryDto> content = thumbnailRegistry.apply(
+        hasNext ? rows.subList(0, size) : rows);
+    if (!hasNext || content.isEmpty()) {
+      return new ProductSlice(content, null, false);
+    }
+
+    ProductSummaryDto last = content.get(content.size() - 1);
+    ProductCursor next = priceOrdered
+        ? ProductCursor.ofPrice(last.price(), last.id())
+        : ProductCursor.ofId(last.id());
+    return new ProductSlice(content, next.encode(), true);
+  }
+
+  /**
+   * 카테고리별 상품 목록
+   * - 첫 페이지는 카테고리별 요약의 상품 id로 상세 캐시에서 조회 (없는 상품만 한 번에 적재)
+   * - 그 외 페이지는 DB에서 조회하며, 카테고리는 페이지당 한 번만 해석
+   * - 첫 페이지와 이어지도록 요청의 정렬과 무관하게 항상 id 오름차순
+   */
   public List<ProductDTO> printProductByCategoryId(Long categoryId, Pageable pageable) {
-    List<Product> byCategoryId = productRepository.findByCategoryId(categoryId, pageable);
+    if (pageable.getOffset() == 0) {
+      Optional<List<Long>> firstIds = categoryProductSummary.firstIds(
+          categoryId, pageable.getPageSize());
+      if (firstIds.isPresent()) {
+        List<Long> ids = firstIds.get();
+        Map<Long, ProductDTO> details = productDetailCache.getAll(ids, this::loadProductDetails);
+        return ids.stream()
+            .map(details::get)
+            .filter(Objects::nonNull)
+            .toList();
+      }
+    }
 
+    List<Product> byCategoryId = productRepository.findByCategoryId(categoryId,
+        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id")));
+    if (byCategoryId.isEmpty()) {
+      return List.of();
+    }
+    Category category = categoryCatalog.find(categoryId)
+        .orElseThrow(() -> new NoSuchElementException("Category not found"));
     return byCategoryId.stream()
-        .map(p -> {
-          Category category = categoryRepository.findById(p.getCategoryId())
-              .orElseThrow(() -> new NoSuchElementException("Category not found"));
-          return ProductMapper.toDto(p, category);
-        }).toList();
+        .map(p -> ProductMapper.toDto(p, category))
+        .toList();
   }
 }
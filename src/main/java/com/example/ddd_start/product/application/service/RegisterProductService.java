@@ -1,11 +1,14 @@
 package com.example.ddd_start.product.application.service;
 
 import com.example.ddd_start.category.domain.CategoryRepository;
+import com.example.ddd_start.common.application.event.Events;
 import com.example.ddd_start.common.domain.Money;
 import com.example.ddd_start.product.application.service.model.NewProductRequest;
 import com.example.ddd_start.product.application.service.model.UpdateProductRequest;
 import com.example.ddd_start.product.domain.Product;
 import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.domain.event.ProductUpdatedEvent;
 import java.util.NoSuchElementException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -40,6 +43,7 @@ public class RegisterProductService {
     );
 
     productRepository.save(product);
+    Events.raise(new ProductRegisteredEvent(product));
     return product.getId();
   }
 
@@ -69,6 +73,7 @@ public class RegisterProductService {
     );
 
     // JPA dirty checking으로 자동 업데이트되므로 save() 불필요
+    Events.raise(new ProductUpdatedEvent(product));
     return product.getId();
   }
 
@@ -0,0 +1,80 @@
+package com.example.ddd_start.product.application.service.event;
+
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.dto.ProductCategoryEntry;
+import com.example.ddd_start.product.domain.event.ProductDeletedEvent;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.domain.event.ProductUpdatedEvent;
+import com.example.ddd_start.product.infrastructure.CategoryProductSummary;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리별 상품 요약 유지
+ * - 기동 시 (id, categoryId)를 id 키셋으로 나누어 읽어 구성
+ * - 스캔 중 커밋된 변경은 요약이 따로 모아 두었다가 적재 직후 다시 반영
+ * - 이후 상품 등록/수정/삭제 커밋 시점에 증분 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryProductSummaryEventHandler {
+
+  private static final int LOAD_CHUNK_SIZE = 5000;
+
+  private final ProductRepository productRepository;
+  private final CategoryProductSummary categoryProductSummary;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildSummary() {
+    long startedAt = System.currentTimeMillis();
+    categoryProductSummary.beginLoad();
+    Map<Long, Long> productCategories = new HashMap<>();
+    Long lastId = null;
+    List<ProductCategoryEntry> entries;
+    do {
+      entries = productRepository.findCategoryEntriesAfter(lastId, LOAD_CHUNK_SIZE);
+      entries.forEach(entry -> productCategories.put(entry.id(), entry.categoryId()));
+      if (!entries.isEmpty()) {
+        lastId = entries.get(entries.size() - 1).id();
+      }
+    } while (entries.size() == LOAD_CHUNK_SIZE);
+
+    categoryProductSummary.load(productCategories);
+    categoryProductSummary.markReady();
+    log.info("카테고리별 상품 요약 구축 완료: {}건, {}ms",
+        productCategories.size(), System.currentTimeMillis() - startedAt);
+  }
+
+  @TransactionalEventListener(
+      classes = ProductRegisteredEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductRegisteredEvent event) {
+    categoryProductSummary.put(event.getProductId(), event.getCategoryId());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductUpdatedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductUpdatedEvent event) {
+    categoryProductSummary.put(event.getProductId(), event.getCategoryId());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductDeletedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductDeletedEvent event) {
+    categoryProductSummary.remove(event.getProductId());
+  }
+}
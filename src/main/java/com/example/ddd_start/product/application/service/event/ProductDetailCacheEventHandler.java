@@ -0,0 +1,37 @@
+package com.example.ddd_start.product.application.service.event;
+
+import com.example.ddd_start.product.domain.event.ProductDeletedEvent;
+import com.example.ddd_start.product.domain.event.ProductUpdatedEvent;
+import com.example.ddd_start.product.infrastructure.ProductDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 상세 캐시 무효화
+ * - 수정/삭제 트랜잭션 커밋 직후 요청 스레드에서 동기적으로 처리
+ * - 커밋 전에 무효화하면 다른 요청이 이전 값을 다시 적재할 수 있으므로 AFTER_COMMIT 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCacheEventHandler {
+
+  private final ProductDetailCache productDetailCache;
+
+  @TransactionalEventListener(
+      classes = ProductUpdatedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductUpdatedEvent event) {
+    productDetailCache.invalidate(event.getProductId());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductDeletedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductDeletedEvent event) {
+    productDetailCache.invalidate(event.getProductId());
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.ddd_start.product.application.service.event;
+
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.dto.ProductPriceEntry;
+import com.example.ddd_start.product.domain.event.ProductDeletedEvent;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.domain.event.ProductUpdatedEvent;
+import com.example.ddd_start.product.infrastructure.ProductPriceIndex;
+import java.util.Arrays;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 가격 색인 유지
+ * - 기동 시 ProductRepository에서 (id, price)를 id 키셋으로 나누어 읽어 한 번에 정렬
+ * - 스캔 중 커밋된 변경은 색인이 따로 모아 두었다가 적재 직후 다시 반영
+ * - 이후 상품 등록/수정/삭제 커밋 시점에 증분 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPriceIndexEventHandler {
+
+  private static final int LOAD_CHUNK_SIZE = 5000;
+
+  private final ProductRepository productRepository;
+  private final ProductPriceIndex productPriceIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildIndex() {
+    long startedAt = System.currentTimeMillis();
+    productPriceIndex.beginLoad();
+    long[] ids = new long[LOAD_CHUNK_SIZE];
+    int[] prices = new int[LOAD_CHUNK_SIZE];
+    int count = 0;
+
+    Long lastId = null;
+    List<ProductPriceEntry> entries;
+    do {
+      entries = productRepository.findPriceEntriesAfter(lastId, LOAD_CHUNK_SIZE);
+      if (count + entries.size() > ids.length) {
+        ids = Arrays.copyOf(ids, Math.max(ids.length * 2, count + entries.size()));
+        prices = Arrays.copyOf(prices, ids.length);
+      }
+      for (ProductPriceEntry entry : entries) {
+        ids[count] = entry.id();
+        prices[count] = ProductPriceIndex.normalize(entry.price());
+        count++;
+      }
+      if (!entries.isEmpty()) {
+        lastId = entries.get(entries.size() - 1).id();
+      }
+    } while (entries.size() == LOAD_CHUNK_SIZE);
+
+    productPriceIndex.load(ids, prices, count);
+    productPriceIndex.markReady();
+    log.info("상품 가격 색인 구축 완료: {}건, {}ms",
+        productPriceIndex.size(), System.currentTimeMillis() - startedAt);
+  }
+
+  @TransactionalEventListener(
+      classes = ProductRegisteredEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductRegisteredEvent event) {
+    productPriceIndex.put(event.getProductId(), event.getPrice());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductUpdatedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductUpdatedEvent event) {
+    productPriceIndex.put(event.getProductId(), event.getPrice());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductDeletedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductDeletedEvent event) {
+    productPriceIndex.remove(event.getProductId());
+  }
+}
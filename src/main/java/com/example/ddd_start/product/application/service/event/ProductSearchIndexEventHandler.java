@@ -0,0 +1,77 @@
+package com.example.ddd_start.product.application.service.event;
+
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.dto.ProductSearchDocument;
+import com.example.ddd_start.product.domain.event.ProductDeletedEvent;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.domain.event.ProductUpdatedEvent;
+import com.example.ddd_start.product.infrastructure.ProductSearchIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 검색 색인 유지
+ * - 기동 시 ProductRepository에서 id 키셋으로 나누어 전체 색인 구축
+ * - 스캔 중 커밋된 변경은 색인이 따로 모아 두었다가 스캔이 끝나면 다시 반영 (이전 값으로 되돌아가지 않도록)
+ * - 이후 상품 등록/수정/삭제 커밋 시점에 증분 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexEventHandler {
+
+  private static final int LOAD_CHUNK_SIZE = 1000;
+
+  private final ProductRepository productRepository;
+  private final ProductSearchIndex productSearchIndex;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildIndex() {
+    long startedAt = System.currentTimeMillis();
+    productSearchIndex.beginLoad();
+    Long lastId = null;
+    List<ProductSearchDocument> documents;
+    do {
+      documents = productRepository.findSearchDocumentsAfter(lastId, LOAD_CHUNK_SIZE);
+      documents.forEach(doc -> productSearchIndex.load(doc.id(), doc.title(), doc.description()));
+      if (!documents.isEmpty()) {
+        lastId = documents.get(documents.size() - 1).id();
+      }
+    } while (documents.size() == LOAD_CHUNK_SIZE);
+
+    productSearchIndex.finishLoad();
+    productSearchIndex.markReady();
+    log.info("상품 검색 색인 구축 완료: {}건, {}ms",
+        productSearchIndex.size(), System.currentTimeMillis() - startedAt);
+  }
+
+  @TransactionalEventListener(
+      classes = ProductRegisteredEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductRegisteredEvent event) {
+    productSearchIndex.index(event.getProductId(), event.getTitle(), event.getDescription());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductUpdatedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductUpdatedEvent event) {
+    productSearchIndex.index(event.getProductId(), event.getTitle(), event.getDescription());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductDeletedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductDeletedEvent event) {
+    productSearchIndex.remove(event.getProductId());
+  }
+}
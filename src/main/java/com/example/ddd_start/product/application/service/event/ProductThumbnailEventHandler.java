@@ -0,0 +1,90 @@
+package com.example.ddd_start.product.application.service.event;
+
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.product.domain.dto.ProductSummaryDto;
+import com.example.ddd_start.product.domain.event.ProductRegisteredEvent;
+import com.example.ddd_start.product.domain.event.ProductUpdatedEvent;
+import com.example.ddd_start.product.infrastructure.ProductThumbnailRegistry;
+import com.example.ddd_start.product.infrastructure.ThumbnailPipeline;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 이미지 썸네일 생성 요청
+ * - 기동 시 저장된 썸네일을 적재한 뒤, 썸네일이 없는 목록 대표 이미지를 백필
+ * - 상품 등록/수정 커밋 후 해당 상품의 이미지를 파이프라인에 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductThumbnailEventHandler {
+
+  private static final int BACKFILL_CHUNK_SIZE = 500;
+  private static final long BACKFILL_WAIT_MILLIS = 1_000;
+
+  private final ProductRepository productRepository;
+  private final ProductThumbnailRegistry thumbnailRegistry;
+  private final ThumbnailPipeline thumbnailPipeline;
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() throws InterruptedException {
+    thumbnailRegistry.reload();
+
+    Long lastId = null;
+    List<ProductSummaryDto> summaries;
+    do {
+      summaries = productRepository.findProductSummariesAfter(lastId, BACKFILL_CHUNK_SIZE);
+      List<String> images = summaries.stream()
+          .map(ProductSummaryDto::image)
+          .filter(Objects::nonNull)
+          .toList();
+      submitWithinCapacity(images);
+      if (!summaries.isEmpty()) {
+        lastId = summaries.get(summaries.size() - 1).id();
+      }
+    } while (summaries.size() == BACKFILL_CHUNK_SIZE);
+    log.info("상품 썸네일 백필 예약 완료");
+  }
+
+  /**
+   * 대기열 여유 공간만큼씩 나누어 예약 (대기열 용량이 chunk보다 작아도 진행)
+   */
+  private void submitWithinCapacity(List<String> images) throws InterruptedException {
+    int from = 0;
+    while (from < images.size()) {
+      int capacity = thumbnailPipeline.remainingCapacity();
+      if (capacity == 0) {
+        Thread.sleep(BACKFILL_WAIT_MILLIS);
+        continue;
+      }
+      int to = Math.min(from + capacity, images.size());
+      thumbnailPipeline.submit(images.subList(from, to));
+      from = to;
+    }
+  }
+
+  @TransactionalEventListener(
+      classes = ProductRegisteredEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductRegisteredEvent event) {
+    thumbnailPipeline.submit(event.getImages());
+  }
+
+  @TransactionalEventListener(
+      classes = ProductUpdatedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(ProductUpdatedEvent event) {
+    thumbnailPipeline.submit(event.getImages());
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.ddd_start.product.application.service.model;
+
+import java.util.List;
+
+public record BulkRegisterProductResult(int requested,
+                                        int succeeded,
+                                        int failed,
+                                        List<Item> items) {
+
+  /**
+   * @param index 요청 목록에서의 위치 (0부터)
+   */
+  public record Item(int index, Long productId, boolean success, String message) {
+
+    public static Item success(int index, Long productId) {
+      return new Item(index, productId, true, null);
+    }
+
+    public static Item failure(int index, String message) {
+      return new Item(index, null, false, message);
+    }
+  }
+}
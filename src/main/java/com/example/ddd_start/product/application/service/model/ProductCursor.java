@@ -0,0 +1,65 @@
+package com.example.ddd_start.product.application.service.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션용 불투명 커서
+ * - 마지막으로 내려준 행의 (price, id)를 Base64(URL-safe)로 인코딩
+ * - 가격 정렬이 아닌 목록은 price 없이 id만 사용 ("id")
+ * - 가격 정렬 목록은 가격이 없는 상품이어도 가격 정렬용 커서임을 구분 ("price:id", 가격이 없으면 ":id")
+ */
+public record ProductCursor(boolean priceOrdered, Integer price, Long id) {
+
+  private static final String DELIMITER = ":";
+
+  public static ProductCursor ofId(Long id) {
+    return new ProductCursor(false, null, id);
+  }
+
+  public static ProductCursor ofPrice(Integer price, Long id) {
+    return new ProductCursor(true, price, id);
+  }
+
+  public String encode() {
+    String raw = priceOrdered
+        ? (price == null ? "" : price) + DELIMITER + id
+        : String.valueOf(id);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 디코딩
+   * - null/공백이면 첫 페이지를 의미하므로 null 반환
+   */
+  public static ProductCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int idx = raw.indexOf(DELIMITER);
+      if (idx < 0) {
+        return ofId(Long.parseLong(raw));
+      }
+      String price = raw.substring(0, idx);
+      return ofPrice(
+          price.isEmpty() ? null : Integer.valueOf(price),
+          Long.parseLong(raw.substring(idx + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.");
+    }
+  }
+
+  /**
+   * 목록 종류(id 정렬 / 가격 정렬)와 맞지 않는 커서면 IllegalArgumentException
+   */
+  public static ProductCursor decode(String cursor, boolean priceOrdered) {
+    ProductCursor decoded = decode(cursor);
+    if (decoded != null && decoded.priceOrdered() != priceOrdered) {
+      throw new IllegalArgumentException("이 목록에서 사용할 수 없는 커서입니다.");
+    }
+    return decoded;
+  }
+}
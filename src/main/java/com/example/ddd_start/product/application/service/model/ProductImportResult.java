@@ -0,0 +1,10 @@
+package com.example.ddd_start.product.application.service.model;
+
+public record ProductImportResult(int fetched,
+                                  int skipped,
+                                  int insertedProducts,
+                                  int insertedImages,
+                                  int insertedCategories,
+                                  long elapsedMillis) {
+
+}
@@ -0,0 +1,10 @@
+package com.example.ddd_start.product.application.service.model;
+
+import com.example.ddd_start.product.domain.dto.ProductSummaryDto;
+import java.util.List;
+
+public record ProductSlice(List<ProductSummaryDto> content,
+                           String nextCursor,
+                           boolean hasNext) {
+
+}
@@ -12,6 +12,8 @@ import java.util.List;
 public interface LastlyRetrieveProductRepository extends JpaRepository<LastlyRetrieveProduct, Long> {
     public List<LastlyRetrieveProduct> findTop7LastlyRetrieveProductByMemberOrderByCreatedAtDesc(Member member);
 
+    public List<LastlyRetrieveProduct> findTop7ByMemberIdOrderByCreatedAtDesc(Long memberId);
+
     @Modifying
     @Query("delete from LastlyRetrieveProduct lrp where lrp.member.id = :memberId")
     public void deleteAllByMemberId(Long memberId);
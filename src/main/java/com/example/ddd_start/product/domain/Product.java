@@ -21,7 +21,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "product", indexes = @Index(name = "idx_title", columnList = "title"))
+@Table(name = "product", indexes = {
+    @Index(name = "idx_title", columnList = "title"),
+    @Index(name = "idx_price_id", columnList = "price, id"),
+    @Index(name = "idx_category_id_id", columnList = "categoryId, id")
+})
 @Getter
 @NoArgsConstructor
 public class Product {
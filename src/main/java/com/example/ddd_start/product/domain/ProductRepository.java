@@ -1,6 +1,9 @@
 package com.example.ddd_start.product.domain;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,7 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
   @Query(value = "select p from Product p "
       + "join ProductCategory pc on pc.productId = p.id "
@@ -20,4 +23,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
   Page<Product> findPageProductByTitleContaining(String title, Pageable pageable);
 
   Boolean existsByTitle(String title);
+
+  @Query("select distinct p from Product p left join fetch p.images where p.id in :ids")
+  List<Product> findAllWithImagesByIdIn(Collection<Long> ids);
+
+  @Query("select p.updatedAt from Product p where p.id = :productId")
+  Optional<Instant> findUpdatedAtById(Long productId);
 }
@@ -1,5 +1,38 @@
 package com.example.ddd_start.product.domain;
 
+import com.example.ddd_start.product.domain.dto.ProductCategoryEntry;
+import com.example.ddd_start.product.domain.dto.ProductPriceEntry;
+import com.example.ddd_start.product.domain.dto.ProductSearchDocument;
+import com.example.ddd_start.product.domain.dto.ProductSummaryDto;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 public interface ProductRepositoryCustom {
 
+  List<ProductSummaryDto> findProductSummaries(Pageable pageable);
+
+  Page<ProductSummaryDto> findPageProductSummariesOrderByPrice(Pageable pageable,
+      boolean ascending);
+
+  Page<ProductSummaryDto> searchPageProductSummaries(String title, Pageable pageable);
+
+  List<ProductSummaryDto> findProductSummariesAfter(Long lastId, int limit);
+
+  List<ProductSummaryDto> findProductSummariesOrderByPriceAfter(Integer lastPrice, Long lastId,
+      int limit, boolean ascending);
+
+  List<ProductSummaryDto> findProductSummariesByCategoryAfter(Long categoryId, Long lastId,
+      int limit);
+
+  List<ProductSummaryDto> findProductSummariesByIds(List<Long> ids);
+
+  List<ProductSearchDocument> findSearchDocumentsAfter(Long lastId, int limit);
+
+  List<ProductPriceEntry> findPriceEntriesAfter(Long lastId, int limit);
+
+  List<ProductCategoryEntry> findCategoryEntriesAfter(Long lastId, int limit);
+
+  List<String> findExistingTitles(Collection<String> titles);
 }
@@ -0,0 +1,263 @@
+package com.example.ddd_start.product.domain;
+
+import static com.example.ddd_start.product.domain.QProduct.product;
+
+import com.example.ddd_start.product.domain.dto.ProductCategoryEntry;
+import com.example.ddd_start.product.domain.dto.ProductPriceEntry;
+import com.example.ddd_start.product.domain.dto.ProductSearchDocument;
+import com.example.ddd_start.product.domain.dto.ProductSummaryDto;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.EntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+  private final JPAQueryFactory queryFactory;
+
+  public ProductRepositoryCustomImpl(EntityManager em) {
+    this.queryFactory = new JPAQueryFactory(em);
+  }
+
+  @Override
+  public List<ProductSummaryDto> findProductSummaries(Pageable pageable) {
+    return selectSummaries()
+        .orderBy(product.id.asc())
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+  }
+
+  @Override
+  public Page<ProductSummaryDto> findPageProductSummariesOrderByPrice(Pageable pageable,
+      boolean ascending) {
+    List<ProductSummaryDto> content = selectSummaries()
+        .orderBy(priceOrder(ascending), idOrder(ascending))
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    return PageableExecutionUtils.getPage(content, pageable,
+        () -> countProducts(null));
+  }
+
+  @Override
+  public Page<ProductSummaryDto> searchPageProductSummaries(String title, Pageable pageable) {
+    List<ProductSummaryDto> content = selectSummaries()
+        .where(titleContains(title))
+        .orderBy(product.id.asc())
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    return PageableExecutionUtils.getPage(content, pageable,
+        () -> countProducts(titleContains(title)));
+  }
+
+  @Override
+  public List<ProductSummaryDto> findProductSummariesAfter(Long lastId, int limit) {
+    return selectSummaries()
+        .where(idAfter(lastId, true))
+        .orderBy(product.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * 가격 색인 적재용 (id, price)를 id 키셋으로 나누어 조회
+   */
+  @Override
+  public List<ProductPriceEntry> findPriceEntriesAfter(Long lastId, int limit) {
+    return queryFactory
+        .select(Projections.constructor(ProductPriceEntry.class,
+            product.id,
+            product.price.amount
+        ))
+        .from(product)
+        .where(idAfter(lastId, true))
+        .orderBy(product.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * 카테고리별 상품 요약 적재용 (id, categoryId)를 id 키셋으로 나누어 조회
+   */
+  @Override
+  public List<ProductCategoryEntry> findCategoryEntriesAfter(Long lastId, int limit) {
+    return queryFactory
+        .select(Projections.constructor(ProductCategoryEntry.class,
+            product.id,
+            product.categoryId
+        ))
+        .from(product)
+        .where(idAfter(lastId, true))
+        .orderBy(product.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * (price, id) 기준 키셋 조회
+   * - 직전 페이지 마지막 행 이후만 seek 하므로 페이지 깊이와 무관하게 비용이 일정
+   */
+  @Override
+  public List<ProductSummaryDto> findProductSummariesOrderByPriceAfter(Integer lastPrice,
+      Long lastId, int limit, boolean ascending) {
+    return selectSummaries()
+        .where(priceAndIdAfter(lastPrice, lastId, ascending))
+        .orderBy(priceOrder(ascending), idOrder(ascending))
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public List<ProductSummaryDto> findProductSummariesByCategoryAfter(Long categoryId, Long lastId,
+      int limit) {
+    return selectSummaries()
+        .where(product.categoryId.eq(categoryId), idAfter(lastId, true))
+        .orderBy(product.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * id 목록으로 요약 조회 (반환 순서는 보장하지 않음)
+   */
+  @Override
+  public List<ProductSummaryDto> findProductSummariesByIds(List<Long> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+    return selectSummaries()
+        .where(product.id.in(ids))
+        .fetch();
+  }
+
+  /**
+   * 주어진 제목 중 이미 저장된 제목만 한 번의 IN 쿼리로 조회
+   */
+  @Override
+  public List<String> findExistingTitles(Collection<String> titles) {
+    if (titles == null || titles.isEmpty()) {
+      return List.of();
+    }
+    return queryFactory
+        .select(product.title)
+        .distinct()
+        .from(product)
+        .where(product.title.in(titles))
+        .fetch();
+  }
+
+  /**
+   * 검색 색인 적재용 (id, title, description)을 id 키셋으로 나누어 조회
+   */
+  @Override
+  public List<ProductSearchDocument> findSearchDocumentsAfter(Long lastId, int limit) {
+    return queryFactory
+        .select(Projections.constructor(ProductSearchDocument.class,
+            product.id,
+            product.title,
+            product.description
+        ))
+        .from(product)
+        .where(idAfter(lastId, true))
+        .orderBy(product.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * 목록 화면에 필요한 컬럼과 대표 이미지를 한 번의 쿼리로 조회
+   * - images(@ElementCollection)와 store(@ManyToOne)를 로딩하지 않음
+   * - product_images에는 순서 컬럼이 없으므로 대표 이미지는 상관 서브쿼리의 min(image_url)로 결정
+   */
+  private JPAQuery<ProductSummaryDto> selectSummaries() {
+    return queryFactory
+        .select(Projections.constructor(ProductSummaryDto.class,
+            product.id,
+            product.title,
+            product.slug,
+            product.price.amount,
+            product.categoryId,
+            firstImage()
+        ))
+        .from(product);
+  }
+
+  private Expression<String> firstImage() {
+    QProduct imageOwner = new QProduct("imageOwner");
+    StringPath image = Expressions.stringPath("image");
+
+    return ExpressionUtils.as(
+        JPAExpressions
+            .select(image.min())
+            .from(imageOwner)
+            .join(imageOwner.images, image)
+            .where(imageOwner.id.eq(product.id)),
+        "firstImage");
+  }
+
+  private long countProducts(BooleanExpression condition) {
+    Long count = queryFactory
+        .select(product.count())
+        .from(product)
+        .where(condition)
+        .fetchOne();
+    return count == null ? 0L : count;
+  }
+
+  private OrderSpecifier<Integer> priceOrder(boolean ascending) {
+    return ascending ? product.price.amount.asc() : product.price.amount.desc();
+  }
+
+  private OrderSpecifier<Long> idOrder(boolean ascending) {
+    return ascending ? product.id.asc() : product.id.desc();
+  }
+
+  private BooleanExpression idAfter(Long lastId, boolean ascending) {
+    if (lastId == null) {
+      return null;
+    }
+    return ascending ? product.id.gt(lastId) : product.id.lt(lastId);
+  }
+
+  /**
+   * (가격, id) 키셋 조건, lastId가 없으면 첫 페이지
+   * - MySQL 정렬과 같이 가격이 없는 상품은 오름차순에서 맨 앞, 내림차순에서 맨 뒤
+   */
+  private BooleanExpression priceAndIdAfter(Integer lastPrice, Long lastId, boolean ascending) {
+    if (lastId == null) {
+      return null;
+    }
+    if (lastPrice == null) {
+      BooleanExpression sameNullPrice = product.price.amount.isNull()
+          .and(ascending ? product.id.gt(lastId) : product.id.lt(lastId));
+      return ascending ? sameNullPrice.or(product.price.amount.isNotNull()) : sameNullPrice;
+    }
+    if (ascending) {
+      return product.price.amount.gt(lastPrice)
+          .or(product.price.amount.eq(lastPrice).and(product.id.gt(lastId)));
+    }
+    return product.price.amount.lt(lastPrice)
+        .or(product.price.amount.eq(lastPrice).and(product.id.lt(lastId)))
+        .or(product.price.amount.isNull());
+  }
+
+  private BooleanExpression titleContains(String title) {
+    return title == null || title.isBlank() ? null : product.title.contains(title);
+  }
+}
@@ -0,0 +1,84 @@
+package com.example.ddd_start.product.domain;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.MapKeyColumn;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * 원본 이미지 URL별 썸네일
+ * - 상품 이미지는 상품의 URL 목록(product_images)이므로 이미지 행이 아닌 URL로 썸네일을 찾음
+ * - 같은 URL을 쓰는 모든 상품이 한 행을 공유, 키는 URL의 SHA-256 (URL 길이와 무관하게 고정 길이)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "source_image_thumbnail")
+public class SourceImageThumbnail {
+
+  @Id
+  @Column(name = "url_hash", length = 64)
+  private String urlHash;
+
+  @Column(name = "source_url", columnDefinition = "TEXT", nullable = false)
+  private String sourceUrl;
+
+  // 원본 이미지 내용의 SHA-256, 같은 내용의 이미지는 썸네일 파일을 공유
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
+  // 목록용으로 쓰는 가장 작은 폭의 썸네일 URL
+  @Column(name = "listing_thumbnail_url")
+  private String listingThumbnailUrl;
+
+  // 가로 폭(px) -> 썸네일 URL
+  @ElementCollection
+  @CollectionTable(name = "source_image_thumbnail_width",
+      joinColumns = @JoinColumn(name = "url_hash"))
+  @MapKeyColumn(name = "width")
+  @Column(name = "thumbnail_url")
+  private Map<Integer, String> thumbnails = new HashMap<>();
+
+  private Instant updatedAt;
+
+  public SourceImageThumbnail(String sourceUrl) {
+    this.urlHash = hashOf(sourceUrl);
+    this.sourceUrl = sourceUrl;
+  }
+
+  public static String hashOf(String sourceUrl) {
+    return DigestUtils.sha256Hex(sourceUrl);
+  }
+
+  /**
+   * 생성된 썸네일 기록
+   */
+  public void record(String contentHash, Map<Integer, String> thumbnails) {
+    this.contentHash = contentHash;
+    this.thumbnails.clear();
+    this.thumbnails.putAll(thumbnails);
+    this.listingThumbnailUrl = thumbnails.entrySet().stream()
+        .min(Map.Entry.comparingByKey())
+        .map(Map.Entry::getValue)
+        .orElse(null);
+    this.updatedAt = Instant.now();
+  }
+
+  /**
+   * 요청한 폭의 썸네일 URL, 없으면 null
+   */
+  public String getThumbnailUrl(int width) {
+    return thumbnails.get(width);
+  }
+}
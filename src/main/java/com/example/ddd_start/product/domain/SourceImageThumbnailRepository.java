@@ -0,0 +1,17 @@
+package com.example.ddd_start.product.domain;
+
+import com.example.ddd_start.product.domain.dto.ImageThumbnail;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SourceImageThumbnailRepository
+    extends JpaRepository<SourceImageThumbnail, String> {
+
+  @Query("select new com.example.ddd_start.product.domain.dto.ImageThumbnail("
+      + "t.sourceUrl, t.listingThumbnailUrl) "
+      + "from SourceImageThumbnail t where t.listingThumbnailUrl is not null")
+  List<ImageThumbnail> findAllListingThumbnails();
+}
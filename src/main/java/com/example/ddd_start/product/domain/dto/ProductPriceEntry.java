@@ -0,0 +1,5 @@
+package com.example.ddd_start.product.domain.dto;
+
+public record ProductPriceEntry(Long id, Integer price) {
+
+}
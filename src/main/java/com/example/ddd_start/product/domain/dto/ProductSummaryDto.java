@@ -0,0 +1,22 @@
+package com.example.ddd_start.product.domain.dto;
+
+public record ProductSummaryDto(Long id,
+                                String title,
+                                String slug,
+                                Integer price,
+                                Long categoryId,
+                                String image,
+                                String thumbnail) {
+
+  /**
+   * QueryDSL 프로젝션용 (썸네일은 조회 후 채움)
+   */
+  public ProductSummaryDto(Long id, String title, String slug, Integer price, Long categoryId,
+      String image) {
+    this(id, title, slug, price, categoryId, image, null);
+  }
+
+  public ProductSummaryDto withThumbnail(String thumbnail) {
+    return new ProductSummaryDto(id, title, slug, price, categoryId, image, thumbnail);
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.ddd_start.product.domain.event;
+
+public class ProductDeletedEvent extends ProductEvent {
+
+  public ProductDeletedEvent(Long productId) {
+    super(productId);
+  }
+}
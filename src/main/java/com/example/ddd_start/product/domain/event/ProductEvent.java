@@ -0,0 +1,16 @@
+package com.example.ddd_start.product.domain.event;
+
+import java.time.Instant;
+import lombok.Getter;
+
+@Getter
+public abstract class ProductEvent {
+
+  private final Long productId;
+  private final Instant timeStamp;
+
+  public ProductEvent(Long productId) {
+    this.productId = productId;
+    this.timeStamp = Instant.now();
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.ddd_start.product.domain.event;
+
+import com.example.ddd_start.product.domain.Product;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ProductRegisteredEvent extends ProductEvent {
+
+  private final String title;
+  private final String description;
+  private final Integer price;
+  private final Long categoryId;
+  private final List<String> images;
+
+  public ProductRegisteredEvent(Product product) {
+    this(product.getId(), product);
+  }
+
+  /**
+   * JDBC 배치로 저장해 엔티티에 id가 채워지지 않은 경우 사용
+   */
+  public ProductRegisteredEvent(Long productId, Product product) {
+    super(productId);
+    this.title = product.getTitle();
+    this.description = product.getDescription();
+    this.price = product.getPrice() == null ? null : product.getPrice().getAmount();
+    this.categoryId = product.getCategoryId();
+    this.images = product.getImages() == null ? List.of() : new ArrayList<>(product.getImages());
+  }
+}
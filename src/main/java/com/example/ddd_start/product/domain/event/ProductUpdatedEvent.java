@@ -0,0 +1,25 @@
+package com.example.ddd_start.product.domain.event;
+
+import com.example.ddd_start.product.domain.Product;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ProductUpdatedEvent extends ProductEvent {
+
+  private final String title;
+  private final String description;
+  private final Integer price;
+  private final Long categoryId;
+  private final List<String> images;
+
+  public ProductUpdatedEvent(Product product) {
+    super(product.getId());
+    this.title = product.getTitle();
+    this.description = product.getDescription();
+    this.price = product.getPrice() == null ? null : product.getPrice().getAmount();
+    this.categoryId = product.getCategoryId();
+    this.images = product.getImages() == null ? List.of() : new ArrayList<>(product.getImages());
+  }
+}
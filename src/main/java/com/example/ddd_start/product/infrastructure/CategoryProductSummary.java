@@ -0,0 +1,249 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.application.service.CategoryProductCounts;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리별 상품 요약 (상품 수 + id 오름차순 첫 FIRST_PAGE_SIZE개 상품 id)
+ * - 카테고리 목록의 상품 수와 카테고리 첫 페이지를 DB 조회 없이 제공
+ * - 카테고리마다 상품 id를 정렬된 원시 배열로 보관하므로 첫 페이지는 배열 앞부분, 변경은 이진 탐색 후 배열 이동
+ * - 상품 등록/수정/삭제 커밋 시점에 증분 반영, 전체 적재 중 들어온 변경은 적재 직후 다시 반영
+ */
+@Component
+public class CategoryProductSummary implements CategoryProductCounts {
+
+  public static final int FIRST_PAGE_SIZE = 20;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Map<Long, Long> categoryByProduct = new HashMap<>();
+  private final Map<Long, Summary> summaries = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // 적재 중 들어온 변경 (상품 id -> 카테고리 id, 삭제는 null), 적재 중이 아니면 null
+  private Map<Long, Long> pendingChanges = null;
+  private volatile boolean ready = false;
+  private volatile Instant lastModified = Instant.now();
+  private long revision = 0;
+
+  /**
+   * 전체 적재 시작, load() 전까지 들어온 변경은 따로 모아 두었다가 load() 직후 다시 반영
+   */
+  public void beginLoad() {
+    lock.writeLock().lock();
+    try {
+      pendingChanges = new HashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * (상품 id, 카테고리 id) 전체로 요약을 다시 구성하고, 적재 중 들어온 변경을 덮어씀
+   */
+  public void load(Map<Long, Long> productCategories) {
+    Map<Long, Summary> loaded = new HashMap<>();
+    productCategories.forEach((productId, categoryId) -> {
+      if (categoryId != null) {
+        loaded.computeIfAbsent(categoryId, k -> new Summary()).append(productId);
+      }
+    });
+    loaded.values().forEach(Summary::sort);
+
+    lock.writeLock().lock();
+    try {
+      categoryByProduct.clear();
+      productCategories.forEach((productId, categoryId) -> {
+        if (categoryId != null) {
+          categoryByProduct.put(productId, categoryId);
+        }
+      });
+      summaries.clear();
+      summaries.putAll(loaded);
+
+      Map<Long, Long> changes = pendingChanges;
+      pendingChanges = null;
+      if (changes != null) {
+        changes.forEach((productId, categoryId) -> {
+          removeInternal(productId);
+          putInternal(productId, categoryId);
+        });
+      }
+      touch();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void put(Long productId, Long categoryId) {
+    if (productId == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (pendingChanges != null) {
+        pendingChanges.put(productId, categoryId);
+      }
+      Long previous = categoryByProduct.get(productId);
+      if (previous != null && previous.equals(categoryId)) {
+        return;
+      }
+      removeInternal(productId);
+      putInternal(productId, categoryId);
+      touch();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long productId) {
+    if (productId == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (pendingChanges != null) {
+        pendingChanges.put(productId, null);
+      }
+      if (removeInternal(productId)) {
+        touch();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void putInternal(Long productId, Long categoryId) {
+    if (categoryId == null) {
+      return;
+    }
+    categoryByProduct.put(productId, categoryId);
+    summaries.computeIfAbsent(categoryId, k -> new Summary()).insert(productId);
+  }
+
+  private boolean removeInternal(Long productId) {
+    Long categoryId = categoryByProduct.remove(productId);
+    if (categoryId == null) {
+      return false;
+    }
+    Summary summary = summaries.get(categoryId);
+    summary.delete(productId);
+    if (summary.size == 0) {
+      summaries.remove(categoryId);
+    }
+    return true;
+  }
+
+  private void touch() {
+    revision++;
+    lastModified = Instant.now();
+  }
+
+  /**
+   * 첫 페이지 상품 id, 요청 크기가 보관 범위를 넘거나 아직 구축 전이면 empty
+   */
+  public Optional<List<Long>> firstIds(Long categoryId, int limit) {
+    if (!ready || limit > FIRST_PAGE_SIZE) {
+      return Optional.empty();
+    }
+    lock.readLock().lock();
+    try {
+      Summary summary = summaries.get(categoryId);
+      if (summary == null) {
+        return Optional.of(List.of());
+      }
+      return Optional.of(Arrays.stream(summary.ids, 0, Math.min(limit, summary.size))
+          .boxed()
+          .toList());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Map<Long, Integer> counts() {
+    lock.readLock().lock();
+    try {
+      Map<Long, Integer> counts = new HashMap<>();
+      summaries.forEach((categoryId, summary) -> counts.put(categoryId, summary.size));
+      return counts;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public long revision() {
+    lock.readLock().lock();
+    try {
+      return revision;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Instant lastModified() {
+    return lastModified;
+  }
+
+  public void markReady() {
+    this.ready = true;
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 카테고리 한 곳의 상품 id (오름차순 정렬, 앞에서 size개만 유효)
+   */
+  private static final class Summary {
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    private void append(long productId) {
+      ensureCapacity(size + 1);
+      ids[size++] = productId;
+    }
+
+    private void sort() {
+      Arrays.sort(ids, 0, size);
+    }
+
+    private void insert(long productId) {
+      int pos = Arrays.binarySearch(ids, 0, size, productId);
+      if (pos >= 0) {
+        return;
+      }
+      pos = -(pos + 1);
+      ensureCapacity(size + 1);
+      System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+      ids[pos] = productId;
+      size++;
+    }
+
+    private void delete(long productId) {
+      int pos = Arrays.binarySearch(ids, 0, size, productId);
+      if (pos < 0) {
+        return;
+      }
+      System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+      size--;
+    }
+
+    private void ensureCapacity(int required) {
+      if (required > ids.length) {
+        ids = Arrays.copyOf(ids, Math.max(required, ids.length + (ids.length >> 1)));
+      }
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.domain.Product;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품/상품 이미지 JDBC 배치 저장
+ * - IDENTITY 전략에서는 Hibernate가 insert 배치를 하지 못하므로 대량 적재는 JDBC로 직접 처리
+ * - 호출한 쪽의 트랜잭션에 참여 (JpaTransactionManager가 같은 커넥션을 노출)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductBatchWriter {
+
+  private static final String INSERT_PRODUCT =
+      "insert into product (title, slug, price, description, category_id, created_at, updated_at) "
+          + "values (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_PRODUCT_IMAGE =
+      "insert into product_images (product_id, image_url) values (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 상품을 한 번의 배치로 저장하고 생성된 id를 입력 순서대로 반환
+   */
+  public List<Long> insertProducts(List<Product> products) {
+    if (products.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.execute((ConnectionCallback<List<Long>>) con -> {
+      try (PreparedStatement ps = con.prepareStatement(INSERT_PRODUCT,
+          Statement.RETURN_GENERATED_KEYS)) {
+        for (Product product : products) {
+          ps.setString(1, product.getTitle());
+          ps.setString(2, product.getSlug());
+          if (product.getPrice() == null || product.getPrice().getAmount() == null) {
+            ps.setNull(3, Types.INTEGER);
+          } else {
+            ps.setInt(3, product.getPrice().getAmount());
+          }
+          ps.setString(4, product.getDescription());
+          ps.setObject(5, product.getCategoryId(), Types.BIGINT);
+          ps.setTimestamp(6, toTimestamp(product.getCreatedAt()));
+          ps.setTimestamp(7, toTimestamp(product.getUpdatedAt()));
+          ps.addBatch();
+        }
+        ps.executeBatch();
+
+        List<Long> ids = new ArrayList<>(products.size());
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+          while (keys.next()) {
+            ids.add(keys.getLong(1));
+          }
+        }
+        if (ids.size() != products.size()) {
+          throw new IllegalStateException(
+              "생성된 상품 id 수가 일치하지 않습니다: " + ids.size() + "/" + products.size());
+        }
+        return ids;
+      }
+    });
+  }
+
+  /**
+   * insertProducts()가 반환한 id와 같은 순서의 상품 목록을 받아 이미지를 배치로 저장
+   *
+   * @return 저장된 이미지 수
+   */
+  public int insertImages(List<Long> productIds, List<Product> products) {
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < products.size(); i++) {
+      List<String> images = products.get(i).getImages();
+      if (images == null) {
+        continue;
+      }
+      for (String image : images) {
+        rows.add(new Object[]{productIds.get(i), image});
+      }
+    }
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    jdbcTemplate.batchUpdate(INSERT_PRODUCT_IMAGE, rows);
+    return rows.size();
+  }
+
+  private static Timestamp toTimestamp(Instant instant) {
+    return instant == null ? null : Timestamp.from(instant);
+  }
+}
@@ -0,0 +1,115 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.application.service.model.ProductDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세(ProductDTO) read-through 캐시
+ * - Caffeine(W-TinyLFU) 기반, 항목 수가 아닌 추정 크기(문자 수)의 합으로 용량을 제한
+ * - 상품 수정/삭제 커밋 시 ProductDetailCacheEventHandler가 즉시 무효화
+ * - 적중/미스/축출 통계를 stats()로 노출해 크기 조정에 활용
+ */
+@Component
+public class ProductDetailCache {
+
+  // 문자열 외 필드(id, 가격, 카테고리, 시각 등)에 대한 대략적인 고정 비용
+  private static final int BASE_WEIGHT = 256;
+
+  private final Cache<Long, ProductDTO> cache;
+  private final long maxWeight;
+
+  public ProductDetailCache(
+      @Value("${product.cache.detail.max-weight:20000000}") long maxWeight) {
+    this.maxWeight = maxWeight;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxWeight)
+        .weigher((Long id, ProductDTO dto) -> weigh(dto))
+        .recordStats()
+        .build();
+  }
+
+  public ProductDTO get(Long productId, Function<Long, ProductDTO> loader) {
+    return cache.get(productId, loader);
+  }
+
+  /**
+   * 없는 항목만 모아 loader로 한 번에 적재
+   */
+  public Map<Long, ProductDTO> getAll(List<Long> productIds,
+      Function<List<Long>, Map<Long, ProductDTO>> loader) {
+    return cache.getAll(productIds, keys -> {
+      List<Long> missing = new ArrayList<>();
+      keys.forEach(missing::add);
+      return loader.apply(missing);
+    });
+  }
+
+  public ProductDTO getIfPresent(Long productId) {
+    return cache.getIfPresent(productId);
+  }
+
+  public void invalidate(Long productId) {
+    if (productId != null) {
+      cache.invalidate(productId);
+    }
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  public ProductDetailCacheStats stats() {
+    CacheStats stats = cache.stats();
+    long weightedSize = cache.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+    return new ProductDetailCacheStats(
+        cache.estimatedSize(),
+        weightedSize,
+        maxWeight,
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate(),
+        stats.evictionCount(),
+        stats.evictionWeight()
+    );
+  }
+
+  static int weigh(ProductDTO dto) {
+    long weight = BASE_WEIGHT
+        + length(dto.getTitle())
+        + length(dto.getSlug())
+        + length(dto.getDescription());
+    List<String> images = dto.getImages();
+    if (images != null) {
+      for (String image : images) {
+        weight += length(image);
+      }
+    }
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
+  private static int length(String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  public record ProductDetailCacheStats(
+      long size,
+      long weightedSize,
+      long maxWeight,
+      long hitCount,
+      long missCount,
+      double hitRate,
+      long evictionCount,
+      long evictionWeight) {
+
+  }
+}
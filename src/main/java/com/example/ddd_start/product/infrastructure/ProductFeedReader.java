@@ -0,0 +1,65 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.application.service.model.ProductDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 상품 피드(JSON 배열) 스트리밍 리더
+ * - 응답 본문을 토큰 단위로 읽으며 상품을 하나씩 역직렬화
+ * - chunkSize 만큼 모일 때마다 consumer에 넘기므로 메모리 사용량이 피드 크기와 무관
+ */
+@Component
+public class ProductFeedReader {
+
+  private final RestTemplate restTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Autowired
+  public ProductFeedReader(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper) {
+    this(restTemplateBuilder.build(), objectMapper);
+  }
+
+  ProductFeedReader(RestTemplate restTemplate, ObjectMapper objectMapper) {
+    this.restTemplate = restTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * @return 읽은 상품 수
+   */
+  public long read(String url, int chunkSize, Consumer<List<ProductDTO>> chunkConsumer) {
+    Long count = restTemplate.execute(url, HttpMethod.GET, null, response -> {
+      try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+          throw new IllegalStateException("상품 피드는 JSON 배열이어야 합니다.");
+        }
+
+        long read = 0;
+        List<ProductDTO> chunk = new ArrayList<>(chunkSize);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          chunk.add(objectMapper.readValue(parser, ProductDTO.class));
+          read++;
+          if (chunk.size() == chunkSize) {
+            chunkConsumer.accept(chunk);
+            chunk = new ArrayList<>(chunkSize);
+          }
+        }
+        if (!chunk.isEmpty()) {
+          chunkConsumer.accept(chunk);
+        }
+        return read;
+      }
+    });
+    return count == null ? 0 : count;
+  }
+}
@@ -0,0 +1,232 @@
+package com.example.ddd_start.product.infrastructure;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * (가격, id) 오름차순으로 정렬된 인메모리 가격 색인
+ * - 가격/id를 원시 배열 두 개에 나란히 보관해 박싱 없이 유지
+ * - 페이지 조회는 배열 위치 계산만으로 끝나고, 변경은 이진 탐색 후 배열 이동
+ * - 가격이 없는 상품은 가장 낮은 가격으로 취급 (MySQL 오름차순에서 null이 먼저 오는 것과 동일)
+ */
+@Component
+public class ProductPriceIndex {
+
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private int[] prices = new int[INITIAL_CAPACITY];
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private int size = 0;
+  private final Map<Long, Integer> priceById = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // 적재 중 들어온 변경 (id -> 정규화된 가격, 삭제는 null), 적재 중이 아니면 null
+  private Map<Long, Integer> pendingChanges = null;
+  private volatile boolean ready = false;
+
+  /**
+   * 전체 적재 시작, load() 전까지 들어온 변경은 따로 모아 두었다가 load() 직후 다시 반영
+   * - 적재 중의 스캔은 여러 번에 걸쳐 읽으므로 이미 읽은 구간의 상품이 바뀌어도 스냅샷에는 남지 않음
+   */
+  public void beginLoad() {
+    lock.writeLock().lock();
+    try {
+      pendingChanges = new HashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 정렬되지 않은 (id, 가격) 목록으로 색인을 한 번에 구성하고, 적재 중 들어온 변경을 덮어씀
+   * - (가격 << 32 | 입력 위치)를 long 하나로 묶어 원시 배열로 정렬한 뒤, 같은 가격 구간만 id로 다시 정렬
+   */
+  public void load(long[] productIds, int[] productPrices, int count) {
+    long[] keys = new long[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = ((long) productPrices[i] << 32) | i;
+    }
+    Arrays.sort(keys);
+
+    int[] sortedPrices = new int[Math.max(count, INITIAL_CAPACITY)];
+    long[] sortedIds = new long[Math.max(count, INITIAL_CAPACITY)];
+    Map<Long, Integer> byId = new HashMap<>(count * 2);
+    int runStart = 0;
+    for (int i = 0; i < count; i++) {
+      int source = (int) keys[i];
+      sortedPrices[i] = productPrices[source];
+      sortedIds[i] = productIds[source];
+      byId.put(productIds[source], productPrices[source]);
+      if (sortedPrices[i] != sortedPrices[runStart]) {
+        Arrays.sort(sortedIds, runStart, i);
+        runStart = i;
+      }
+    }
+    Arrays.sort(sortedIds, runStart, count);
+
+    lock.writeLock().lock();
+    try {
+      prices = sortedPrices;
+      ids = sortedIds;
+      size = count;
+      priceById.clear();
+      priceById.putAll(byId);
+      Map<Long, Integer> changes = pendingChanges;
+      pendingChanges = null;
+      if (changes != null) {
+        changes.forEach((productId, price) -> {
+          if (price == null) {
+            removeInternal(productId);
+          } else {
+            putInternal(productId, price);
+          }
+        });
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 등록/수정 시 호출, 기존 위치에서 제거 후 새 가격 위치에 삽입
+   */
+  public void put(Long productId, Integer price) {
+    if (productId == null) {
+      return;
+    }
+    int normalized = normalize(price);
+    lock.writeLock().lock();
+    try {
+      putInternal(productId, normalized);
+      if (pendingChanges != null) {
+        pendingChanges.put(productId, normalized);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void putInternal(Long productId, int price) {
+    removeInternal(productId);
+    int pos = -(search(price, productId) + 1);
+    ensureCapacity(size + 1);
+    System.arraycopy(prices, pos, prices, pos + 1, size - pos);
+    System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+    prices[pos] = price;
+    ids[pos] = productId;
+    size++;
+    priceById.put(productId, price);
+  }
+
+  public void remove(Long productId) {
+    if (productId == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      removeInternal(productId);
+      if (pendingChanges != null) {
+        // null = 삭제 (가격은 normalize 되어 null이 될 수 없음)
+        pendingChanges.put(productId, null);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void removeInternal(Long productId) {
+    Integer price = priceById.remove(productId);
+    if (price == null) {
+      return;
+    }
+    int pos = search(price, productId);
+    if (pos < 0) {
+      return;
+    }
+    System.arraycopy(prices, pos + 1, prices, pos, size - pos - 1);
+    System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+    size--;
+  }
+
+  /**
+   * 가격 순 한 페이지의 상품 id
+   * - 내림차순은 (가격 desc, id desc)로 배열을 뒤에서부터 읽음
+   */
+  public List<Long> page(long offset, int limit, boolean ascending) {
+    lock.readLock().lock();
+    try {
+      if (offset >= size || limit <= 0) {
+        return List.of();
+      }
+      int from = (int) offset;
+      int count = Math.min(limit, size - from);
+      Long[] result = new Long[count];
+      for (int i = 0; i < count; i++) {
+        int pos = ascending ? from + i : size - 1 - from - i;
+        result[i] = ids[pos];
+      }
+      return Arrays.asList(result);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void markReady() {
+    this.ready = true;
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * (가격, id) 이진 탐색, 없으면 -(삽입 위치) - 1
+   */
+  private int search(int price, long id) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compare(prices[mid], ids[mid], price, id);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private void ensureCapacity(int required) {
+    if (required <= prices.length) {
+      return;
+    }
+    int capacity = Math.max(required, prices.length + (prices.length >> 1));
+    prices = Arrays.copyOf(prices, capacity);
+    ids = Arrays.copyOf(ids, capacity);
+  }
+
+  private static int compare(int priceA, long idA, int priceB, long idB) {
+    int cmp = Integer.compare(priceA, priceB);
+    return cmp != 0 ? cmp : Long.compare(idA, idB);
+  }
+
+  public static int normalize(Integer price) {
+    return price == null ? Integer.MIN_VALUE : price;
+  }
+}
@@ -0,0 +1,308 @@
+package com.example.ddd_start.product.infrastructure;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 제목/설명에 대한 인메모리 역색인
+ * - 단어를 2-gram(bigram)으로 분해하므로 형태소 분석 없이 한글 부분 일치 검색이 가능
+ * - 질의의 모든 토큰을 포함하는 상품만 결과에 포함 (AND)
+ * - 점수 = Σ idf(token) × (제목 가중치 × 제목 출현 수 + 설명 출현 수)
+ * - 한 글자 질의는 글자 -> 그 글자를 포함하는 토큰 목록으로 찾으므로 전체 어휘를 훑지 않음
+ * - 전체 적재(beginLoad ~ finishLoad) 중 들어온 등록/수정/삭제는 따로 모아 두었다가 적재가 끝나면 다시 반영
+ */
+@Component
+public class ProductSearchIndex {
+
+  private static final int TITLE_WEIGHT = 5;
+  // 설명은 매우 길 수 있으므로 앞부분만 색인
+  private static final int MAX_DESCRIPTION_LENGTH = 2000;
+
+  private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+  private final Map<Long, Set<String>> documentTokens = new HashMap<>();
+  // 글자 -> 그 글자를 포함하는 토큰, 한 글자 질의용
+  private final Map<Character, Set<String>> termsByChar = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // 적재 중 들어온 변경 (id -> 문서, 삭제는 null), 적재 중이 아니면 null
+  private Map<Long, Document> pendingChanges = null;
+  private volatile boolean ready = false;
+
+  /**
+   * 등록/수정 시 호출
+   */
+  public void index(Long productId, String title, String description) {
+    if (productId == null) {
+      return;
+    }
+    Map<String, Integer> weights = weigh(title, description);
+    lock.writeLock().lock();
+    try {
+      indexInternal(productId, weights);
+      if (pendingChanges != null) {
+        pendingChanges.put(productId, new Document(title, description));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long productId) {
+    if (productId == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      removeInternal(productId);
+      if (pendingChanges != null) {
+        pendingChanges.put(productId, null);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 전체 적재 시작, finishLoad() 전까지 index()/remove()로 들어온 변경을 따로 기록
+   * - 스캔은 여러 번에 걸쳐 읽으므로 읽은 뒤 커밋된 삭제/수정을 이전 값으로 덮어쓸 수 있음
+   */
+  public void beginLoad() {
+    lock.writeLock().lock();
+    try {
+      pendingChanges = new HashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 적재 스캔으로 읽은 문서 반영 (변경으로 기록하지 않음)
+   */
+  public void load(Long productId, String title, String description) {
+    if (productId == null) {
+      return;
+    }
+    Map<String, Integer> weights = weigh(title, description);
+    lock.writeLock().lock();
+    try {
+      indexInternal(productId, weights);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 적재 중 기록한 변경을 스캔 결과 위에 다시 반영하고 기록을 멈춤
+   */
+  public void finishLoad() {
+    lock.writeLock().lock();
+    try {
+      Map<Long, Document> changes = pendingChanges;
+      pendingChanges = null;
+      if (changes == null) {
+        return;
+      }
+      changes.forEach((productId, document) -> {
+        if (document == null) {
+          removeInternal(productId);
+        } else {
+          indexInternal(productId, weigh(document.title(), document.description()));
+        }
+      });
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static Map<String, Integer> weigh(String title, String description) {
+    Map<String, Integer> weights = new HashMap<>();
+    tokenize(title).forEach(token -> weights.merge(token, TITLE_WEIGHT, Integer::sum));
+    tokenize(truncate(description))
+        .forEach(token -> weights.merge(token, 1, Integer::sum));
+    return weights;
+  }
+
+  private void indexInternal(Long productId, Map<String, Integer> weights) {
+    removeInternal(productId);
+    weights.forEach((token, weight) ->
+        postings.computeIfAbsent(token, this::newPostings).put(productId, weight));
+    documentTokens.put(productId, new HashSet<>(weights.keySet()));
+  }
+
+  private Map<Long, Integer> newPostings(String token) {
+    for (int i = 0; i < token.length(); i++) {
+      termsByChar.computeIfAbsent(token.charAt(i), k -> new HashSet<>()).add(token);
+    }
+    return new HashMap<>();
+  }
+
+  private void removeTerm(String token) {
+    postings.remove(token);
+    for (int i = 0; i < token.length(); i++) {
+      Set<String> terms = termsByChar.get(token.charAt(i));
+      if (terms != null) {
+        terms.remove(token);
+        if (terms.isEmpty()) {
+          termsByChar.remove(token.charAt(i));
+        }
+      }
+    }
+  }
+
+  private void removeInternal(Long productId) {
+    Set<String> tokens = documentTokens.remove(productId);
+    if (tokens == null) {
+      return;
+    }
+    for (String token : tokens) {
+      Map<Long, Integer> docs = postings.get(token);
+      if (docs != null) {
+        docs.remove(productId);
+        if (docs.isEmpty()) {
+          removeTerm(token);
+        }
+      }
+    }
+  }
+
+  /**
+   * 관련도 순으로 정렬된 상품 id 한 페이지와 전체 일치 건수를 반환
+   */
+  public SearchHits search(String query, long offset, int limit) {
+    List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+    if (queryTokens.isEmpty()) {
+      return new SearchHits(List.of(), 0);
+    }
+
+    lock.readLock().lock();
+    try {
+      Map<Long, Double> scores = null;
+      int documentCount = Math.max(documentTokens.size(), 1);
+
+      for (String token : queryTokens) {
+        Map<Long, Integer> docs = postingsOf(token);
+        if (docs.isEmpty()) {
+          return new SearchHits(List.of(), 0);
+        }
+        double idf = Math.log(1.0 + (double) documentCount / docs.size());
+
+        Map<Long, Double> next = new HashMap<>();
+        for (Map.Entry<Long, Integer> doc : docs.entrySet()) {
+          if (scores == null || scores.containsKey(doc.getKey())) {
+            double prev = scores == null ? 0.0 : scores.get(doc.getKey());
+            next.put(doc.getKey(), prev + idf * doc.getValue());
+          }
+        }
+        scores = next;
+        if (scores.isEmpty()) {
+          return new SearchHits(List.of(), 0);
+        }
+      }
+
+      List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+      ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+          .thenComparing(Map.Entry.<Long, Double>comparingByKey()));
+
+      int from = (int) Math.min(offset, ranked.size());
+      int to = Math.min(from + limit, ranked.size());
+      List<Long> ids = ranked.subList(from, to).stream()
+          .map(Map.Entry::getKey)
+          .toList();
+      return new SearchHits(ids, ranked.size());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 한 글자 질의어는 bigram이 없으므로 해당 글자를 포함하는 토큰의 posting을 합친다
+   */
+  private Map<Long, Integer> postingsOf(String token) {
+    if (token.length() > 1) {
+      return postings.getOrDefault(token, Collections.emptyMap());
+    }
+    Map<Long, Integer> merged = new HashMap<>();
+    for (String term : termsByChar.getOrDefault(token.charAt(0), Collections.emptySet())) {
+      postings.get(term).forEach((id, weight) -> merged.merge(id, weight, Integer::sum));
+    }
+    return merged;
+  }
+
+  public void markReady() {
+    this.ready = true;
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documentTokens.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * NFKC 정규화 + 소문자화 후 문자/숫자 단위로 단어를 나누고 각 단어를 bigram으로 분해
+   * - 한 글자 단어는 그대로 토큰으로 사용
+   */
+  static List<String> tokenize(String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC)
+        .toLowerCase(Locale.ROOT);
+
+    List<String> tokens = new ArrayList<>();
+    StringBuilder word = new StringBuilder();
+    for (int i = 0; i < normalized.length(); i++) {
+      char c = normalized.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        word.append(c);
+      } else {
+        addWordTokens(word, tokens);
+      }
+    }
+    addWordTokens(word, tokens);
+    return tokens;
+  }
+
+  private static void addWordTokens(StringBuilder word, List<String> tokens) {
+    if (word.length() == 1) {
+      tokens.add(word.toString());
+    }
+    for (int i = 0; i + 1 < word.length(); i++) {
+      tokens.add(word.substring(i, i + 2));
+    }
+    word.setLength(0);
+  }
+
+  private static String truncate(String description) {
+    if (description == null || description.length() <= MAX_DESCRIPTION_LENGTH) {
+      return description;
+    }
+    return description.substring(0, MAX_DESCRIPTION_LENGTH);
+  }
+
+  public record SearchHits(List<Long> productIds, long totalHits) {
+
+  }
+
+  private record Document(String title, String description) {
+
+  }
+}
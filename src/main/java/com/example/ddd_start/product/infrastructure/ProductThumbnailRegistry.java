@@ -0,0 +1,53 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.domain.SourceImageThumbnailRepository;
+import com.example.ddd_start.product.domain.dto.ImageThumbnail;
+import com.example.ddd_start.product.domain.dto.ProductSummaryDto;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 이미지 URL -> 목록용 썸네일 URL
+ * - 목록 조회마다 이미지 테이블을 조회하지 않도록 메모리에 보관
+ * - 기동 시 source_image_thumbnail 테이블에서 적재하고, 썸네일 생성 후 ThumbnailPipeline이 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductThumbnailRegistry {
+
+  private final SourceImageThumbnailRepository sourceImageThumbnailRepository;
+  private final Map<String, String> thumbnails = new ConcurrentHashMap<>();
+
+  public void reload() {
+    List<ImageThumbnail> loaded = sourceImageThumbnailRepository.findAllListingThumbnails();
+    loaded.forEach(t -> thumbnails.put(t.sourceUrl(), t.thumbnailUrl()));
+    log.info("상품 썸네일 적재 완료: {}건", loaded.size());
+  }
+
+  public void put(String imageUrl, String thumbnailUrl) {
+    thumbnails.put(imageUrl, thumbnailUrl);
+  }
+
+  public boolean contains(String imageUrl) {
+    return imageUrl != null && thumbnails.containsKey(imageUrl);
+  }
+
+  /**
+   * 썸네일이 아직 없으면 원본 URL을 그대로 사용
+   */
+  public ProductSummaryDto apply(ProductSummaryDto summary) {
+    if (summary.image() == null) {
+      return summary;
+    }
+    return summary.withThumbnail(thumbnails.getOrDefault(summary.image(), summary.image()));
+  }
+
+  public List<ProductSummaryDto> apply(List<ProductSummaryDto> summaries) {
+    return summaries.stream().map(this::apply).toList();
+  }
+}
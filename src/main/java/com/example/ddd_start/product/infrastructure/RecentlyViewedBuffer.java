@@ -0,0 +1,146 @@
+package com.example.ddd_start.product.infrastructure;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 최근 본 상품 링 버퍼
+ * - 회원마다 고정 크기(CAPACITY) 배열에 상품 id를 순환 기록하므로 기록/조회 모두 O(1)
+ * - 처음 접근하는 회원은 loader로 DB의 최근 기록을 한 번 적재
+ * - 변경된 회원은 dirty로 표시되고, drainDirty()로 꺼내 write-behind 저장
+ */
+@Component
+public class RecentlyViewedBuffer {
+
+  public static final int CAPACITY = 7;
+
+  private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+  private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+  private final int maxMembers;
+
+  public RecentlyViewedBuffer(
+      @Value("${product.recently-viewed.max-members:100000}") int maxMembers) {
+    this.maxMembers = maxMembers;
+  }
+
+  public void push(Long memberId, Long productId, Function<Long, List<Entry>> loader) {
+    Ring ring = ring(memberId, loader);
+    ring.add(new Entry(productId, Instant.now()));
+    dirty.add(memberId);
+    // 그 사이 trim()으로 제거되었다면 다시 등록
+    rings.putIfAbsent(memberId, ring);
+  }
+
+  /**
+   * 최근 본 순서(최신 먼저)의 상품 id
+   */
+  public List<Long> recent(Long memberId, Function<Long, List<Entry>> loader) {
+    return ring(memberId, loader).newestFirst().stream()
+        .map(Entry::productId)
+        .toList();
+  }
+
+  public void evict(Long memberId) {
+    dirty.remove(memberId);
+    rings.remove(memberId);
+  }
+
+  /**
+   * dirty 회원의 현재 내용을 최신 순으로 꺼내고 dirty 표시를 해제
+   */
+  public Map<Long, List<Entry>> drainDirty() {
+    Map<Long, List<Entry>> snapshot = new HashMap<>();
+    Iterator<Long> it = dirty.iterator();
+    while (it.hasNext()) {
+      Long memberId = it.next();
+      it.remove();
+      Ring ring = rings.get(memberId);
+      if (ring != null) {
+        snapshot.put(memberId, ring.newestFirst());
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * 저장에 실패한 회원을 다시 dirty로 표시
+   */
+  public void markDirty(Iterable<Long> memberIds) {
+    memberIds.forEach(dirty::add);
+  }
+
+  /**
+   * 회원 수가 상한을 넘으면 저장이 끝난(dirty가 아닌) 버퍼부터 제거, 다음 접근 시 DB에서 다시 적재
+   */
+  public void trim() {
+    Iterator<Long> it = rings.keySet().iterator();
+    while (rings.size() > maxMembers && it.hasNext()) {
+      Long memberId = it.next();
+      if (!dirty.contains(memberId)) {
+        it.remove();
+      }
+    }
+  }
+
+  public int size() {
+    return rings.size();
+  }
+
+  private Ring ring(Long memberId, Function<Long, List<Entry>> loader) {
+    Ring ring = rings.get(memberId);
+    if (ring != null) {
+      return ring;
+    }
+    Ring loaded = Ring.of(loader.apply(memberId));
+    ring = rings.putIfAbsent(memberId, loaded);
+    return ring == null ? loaded : ring;
+  }
+
+  public record Entry(Long productId, Instant viewedAt) {
+
+  }
+
+  static final class Ring {
+
+    private final Entry[] entries = new Entry[CAPACITY];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param newestFirst 최신 순으로 정렬된 기존 기록
+     */
+    static Ring of(List<Entry> newestFirst) {
+      Ring ring = new Ring();
+      int count = Math.min(newestFirst.size(), CAPACITY);
+      for (int i = count - 1; i >= 0; i--) {
+        ring.add(newestFirst.get(i));
+      }
+      return ring;
+    }
+
+    synchronized void add(Entry entry) {
+      entries[head] = entry;
+      head = (head + 1) % CAPACITY;
+      if (size < CAPACITY) {
+        size++;
+      }
+    }
+
+    synchronized List<Entry> newestFirst() {
+      List<Entry> result = new ArrayList<>(size);
+      for (int i = 1; i <= size; i++) {
+        result.add(entries[(head - i + CAPACITY) % CAPACITY]);
+      }
+      return result;
+    }
+  }
+}
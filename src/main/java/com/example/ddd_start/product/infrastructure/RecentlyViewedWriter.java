@@ -0,0 +1,51 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.infrastructure.RecentlyViewedBuffer.Entry;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 최근 본 상품 write-behind 저장
+ * - 회원별 기존 행을 지우고 버퍼 내용(최대 CAPACITY건)으로 교체하므로 회원당 행 수가 일정하게 유지됨
+ * - 탈퇴한 회원이나 삭제된 상품은 insert ... select 조인에서 걸러짐
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentlyViewedWriter {
+
+  private static final String DELETE_BY_MEMBER =
+      "delete from lastly_retrieve_product where member_id = ?";
+  private static final String INSERT_IF_EXISTS =
+      "insert into lastly_retrieve_product (member_id, product_id, created_at) "
+          + "select m.id, p.id, ? from member m join product p on p.id = ? where m.id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional
+  public void replace(Map<Long, List<Entry>> entriesByMember) {
+    if (entriesByMember.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(DELETE_BY_MEMBER, entriesByMember.keySet().stream()
+        .map(memberId -> new Object[]{memberId})
+        .toList());
+
+    List<Object[]> rows = new ArrayList<>();
+    entriesByMember.forEach((memberId, entries) -> {
+      // 오래된 것부터 넣어 id 순서가 조회 순서와 같도록 함
+      for (int i = entries.size() - 1; i >= 0; i--) {
+        Entry entry = entries.get(i);
+        rows.add(new Object[]{Timestamp.from(entry.viewedAt()), entry.productId(), memberId});
+      }
+    });
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_IF_EXISTS, rows);
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.example.ddd_start.product.infrastructure;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URL;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 외부 이미지 원본 다운로드 (사용자가 보낸 URL을 서버가 직접 요청하므로 SSRF 방지)
+ * - http/https만 허용
+ * - 호스트를 해석한 주소 중 하나라도 루프백/사설/링크 로컬/멀티캐스트 등 내부 주소면 거부
+ * - 리다이렉트는 자동으로 따라가지 않고, 이동할 주소를 다시 검사한 뒤 최대 MAX_REDIRECTS 번까지 따라감
+ * - 연결 시의 주소 해석은 JVM DNS 캐시를 거치므로 검사 직후 다른 주소로 바뀌는 경우는 캐시 TTL 안에서 막힘
+ */
+public class RemoteImageDownloader {
+
+  private static final Set<String> ALLOWED_SCHEMES = Set.of("http", "https");
+  private static final int MAX_REDIRECTS = 3;
+
+  private final int connectTimeoutMillis;
+  private final int readTimeoutMillis;
+  private final int maxBytes;
+
+  public RemoteImageDownloader(int connectTimeoutMillis, int readTimeoutMillis, int maxBytes) {
+    this.connectTimeoutMillis = connectTimeoutMillis;
+    this.readTimeoutMillis = readTimeoutMillis;
+    this.maxBytes = maxBytes;
+  }
+
+  public byte[] download(String imageUrl) throws IOException {
+    URL url = new URL(imageUrl);
+    for (int redirects = 0; ; redirects++) {
+      verify(url);
+      HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+      connection.setInstanceFollowRedirects(false);
+      connection.setConnectTimeout(connectTimeoutMillis);
+      connection.setReadTimeout(readTimeoutMillis);
+      try {
+        int status = connection.getResponseCode();
+        if (status >= 300 && status < 400) {
+          String location = connection.getHeaderField("Location");
+          if (location == null || redirects >= MAX_REDIRECTS) {
+            throw new IOException("리다이렉트를 따라갈 수 없습니다: " + status);
+          }
+          url = new URL(url, location);
+          continue;
+        }
+        if (status != HttpURLConnection.HTTP_OK) {
+          throw new IOException("원본 이미지를 받을 수 없습니다: " + status);
+        }
+        return read(connection);
+      } finally {
+        connection.disconnect();
+      }
+    }
+  }
+
+  private byte[] read(HttpURLConnection connection) throws IOException {
+    try (InputStream in = connection.getInputStream()) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        if (out.size() + read > maxBytes) {
+          throw new IOException("원본 이미지가 너무 큽니다.");
+        }
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    }
+  }
+
+  /**
+   * 요청해도 되는 URL인지 검사, 허용되지 않으면 IOException
+   */
+  static void verify(URL url) throws IOException {
+    String scheme = url.getProtocol().toLowerCase(Locale.ROOT);
+    if (!ALLOWED_SCHEMES.contains(scheme)) {
+      throw new IOException("허용되지 않는 스킴입니다: " + scheme);
+    }
+    String host = url.getHost();
+    if (host == null || host.isBlank()) {
+      throw new IOException("호스트가 없습니다: " + url);
+    }
+    for (InetAddress address : InetAddress.getAllByName(host)) {
+      if (isInternal(address)) {
+        throw new IOException("내부 주소로는 요청할 수 없습니다: " + host);
+      }
+    }
+  }
+
+  static boolean isInternal(InetAddress address) {
+    if (address.isAnyLocalAddress() || address.isLoopbackAddress()
+        || address.isLinkLocalAddress() || address.isSiteLocalAddress()
+        || address.isMulticastAddress()) {
+      return true;
+    }
+    byte[] bytes = address.getAddress();
+    if (address instanceof Inet4Address) {
+      int first = bytes[0] & 0xff;
+      int second = bytes[1] & 0xff;
+      // 0.0.0.0/8, 100.64.0.0/10 (CGNAT), 255.255.255.255
+      return first == 0 || (first == 100 && (second & 0xc0) == 64) || first == 255;
+    }
+    if (address instanceof Inet6Address) {
+      // fc00::/7 (unique local)
+      return (bytes[0] & 0xfe) == 0xfc;
+    }
+    return false;
+  }
+}
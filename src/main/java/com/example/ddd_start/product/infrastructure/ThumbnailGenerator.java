@@ -0,0 +1,120 @@
+package com.example.ddd_start.product.infrastructure;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * javax.imageio 기반 썸네일 생성
+ * - 원본보다 큰 폭으로는 확대하지 않음
+ * - 큰 축소는 절반씩 여러 번 줄여 품질을 유지
+ * - 결과는 JPEG (투명 영역은 흰색 배경으로 합성)
+ */
+public class ThumbnailGenerator {
+
+  // 디코딩 전에 크기를 확인해 비정상적으로 큰 이미지를 거부
+  private static final long MAX_PIXELS = 40_000_000L;
+  private static final float JPEG_QUALITY = 0.85f;
+
+  /**
+   * @return 요청 폭 -> JPEG 바이트
+   */
+  public Map<Integer, byte[]> generate(byte[] source, List<Integer> widths) throws IOException {
+    BufferedImage original = decode(source);
+    Map<Integer, byte[]> thumbnails = new LinkedHashMap<>();
+    for (Integer width : widths) {
+      thumbnails.put(width, encodeJpeg(resize(original, width)));
+    }
+    return thumbnails;
+  }
+
+  static BufferedImage decode(byte[] source) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+      Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+      if (readers == null || !readers.hasNext()) {
+        throw new IOException("지원하지 않는 이미지 형식입니다.");
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(in, true, true);
+        long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+        if (pixels > MAX_PIXELS) {
+          throw new IOException("이미지가 너무 큽니다: " + pixels + " pixels");
+        }
+        return reader.read(0);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  static BufferedImage resize(BufferedImage original, int targetWidth) {
+    int width = Math.min(targetWidth, original.getWidth());
+    int height = Math.max(1,
+        (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+
+    BufferedImage current = toRgb(original);
+    // 목표의 2배보다 크면 절반씩 줄임
+    while (current.getWidth() / 2 >= width) {
+      current = draw(current, current.getWidth() / 2,
+          Math.max(1, current.getHeight() / 2));
+    }
+    if (current.getWidth() != width || current.getHeight() != height) {
+      current = draw(current, width, height);
+    }
+    return current;
+  }
+
+  private static BufferedImage toRgb(BufferedImage image) {
+    if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+      return image;
+    }
+    return draw(image, image.getWidth(), image.getHeight());
+  }
+
+  private static BufferedImage draw(BufferedImage source, int width, int height) {
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = target.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+          RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      g.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+    return target;
+  }
+
+  private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+      writer.setOutput(ios);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(JPEG_QUALITY);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return out.toByteArray();
+  }
+}
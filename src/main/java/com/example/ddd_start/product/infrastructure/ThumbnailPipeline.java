@@ -0,0 +1,148 @@
+package com.example.ddd_start.product.infrastructure;
+
+import com.example.ddd_start.product.domain.SourceImageThumbnail;
+import com.example.ddd_start.product.domain.SourceImageThumbnailRepository;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 이미지 썸네일 비동기 생성
+ * - 고정 크기 작업자 풀 + 고정 길이 대기열, 대기열이 가득 차면 요청을 버리고 다음 기회에 다시 시도
+ * - 원본은 RemoteImageDownloader로 받음 (http/https, 외부 주소만 허용)
+ * - 같은 URL은 동시에 한 번만 처리, 같은 내용(SHA-256)은 디스크에 이미 있으면 다시 만들지 않음
+ * - 생성 결과는 원본 URL별로 SourceImageThumbnail에 기록하고 목록용 썸네일 레지스트리에 반영
+ */
+@Slf4j
+@Component
+public class ThumbnailPipeline {
+
+  private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+  private static final int READ_TIMEOUT_MILLIS = 10_000;
+  private static final int MAX_SOURCE_BYTES = 20 * 1024 * 1024;
+
+  private final ThumbnailStore thumbnailStore;
+  private final ProductThumbnailRegistry thumbnailRegistry;
+  private final SourceImageThumbnailRepository sourceImageThumbnailRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ThumbnailGenerator generator = new ThumbnailGenerator();
+  private final RemoteImageDownloader downloader = new RemoteImageDownloader(
+      CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS, MAX_SOURCE_BYTES);
+  private final List<Integer> widths;
+  private final ThreadPoolExecutor executor;
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+  public ThumbnailPipeline(
+      ThumbnailStore thumbnailStore,
+      ProductThumbnailRegistry thumbnailRegistry,
+      SourceImageThumbnailRepository sourceImageThumbnailRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${product.thumbnail.widths:160,320,640}") List<Integer> widths,
+      @Value("${product.thumbnail.workers:2}") int workers,
+      @Value("${product.thumbnail.queue-capacity:1000}") int queueCapacity) {
+    this.thumbnailStore = thumbnailStore;
+    this.thumbnailRegistry = thumbnailRegistry;
+    this.sourceImageThumbnailRepository = sourceImageThumbnailRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.widths = widths.stream().sorted().distinct().toList();
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "thumbnail-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  /**
+   * 이미지들의 썸네일 생성을 예약 (이미 썸네일이 있거나 처리 중인 URL은 제외)
+   */
+  public void submit(List<String> imageUrls) {
+    if (imageUrls == null) {
+      return;
+    }
+    for (String imageUrl : imageUrls) {
+      if (imageUrl == null || thumbnailRegistry.contains(imageUrl) || !inFlight.add(imageUrl)) {
+        continue;
+      }
+      try {
+        executor.execute(() -> process(imageUrl));
+      } catch (RejectedExecutionException e) {
+        inFlight.remove(imageUrl);
+        log.warn("썸네일 대기열이 가득 차 건너뜀: {}", imageUrl);
+      }
+    }
+  }
+
+  /**
+   * 대기열 여유 공간, 백필처럼 대량으로 예약할 때 속도 조절에 사용
+   */
+  public int remainingCapacity() {
+    return executor.getQueue().remainingCapacity();
+  }
+
+  private void process(String imageUrl) {
+    try {
+      byte[] source = downloader.download(imageUrl);
+      String hash = sha256(source);
+      if (!thumbnailStore.containsAll(hash, widths)) {
+        Map<Integer, byte[]> generated = generator.generate(source, widths);
+        for (Map.Entry<Integer, byte[]> entry : generated.entrySet()) {
+          thumbnailStore.write(hash, entry.getKey(), entry.getValue());
+        }
+      }
+
+      Map<Integer, String> urls = new LinkedHashMap<>();
+      widths.forEach(width -> urls.put(width, thumbnailStore.url(hash, width)));
+      record(imageUrl, hash, urls);
+      thumbnailRegistry.put(imageUrl, urls.get(widths.get(0)));
+    } catch (IOException | RuntimeException e) {
+      log.warn("썸네일 생성 실패: {} ({})", imageUrl, e.getMessage());
+    } finally {
+      inFlight.remove(imageUrl);
+    }
+  }
+
+  private void record(String imageUrl, String hash, Map<Integer, String> urls) {
+    transactionTemplate.executeWithoutResult(status -> {
+      SourceImageThumbnail thumbnail = sourceImageThumbnailRepository
+          .findById(SourceImageThumbnail.hashOf(imageUrl))
+          .orElseGet(() -> new SourceImageThumbnail(imageUrl));
+      thumbnail.record(hash, urls);
+      sourceImageThumbnailRepository.save(thumbnail);
+    });
+  }
+
+  static String sha256(byte[] bytes) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
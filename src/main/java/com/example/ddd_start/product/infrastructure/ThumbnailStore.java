@@ -0,0 +1,65 @@
+package com.example.ddd_start.product.infrastructure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 로컬 디스크 저장소
+ * - 경로는 원본 내용 해시로 정해지므로 같은 내용의 이미지는 한 벌만 저장 (content addressed)
+ * - {dir}/{hash 앞 2자리}/{hash}/{width}.jpg 를 /thumbnails/** 로 서빙
+ */
+@Component
+public class ThumbnailStore {
+
+  public static final String URL_PREFIX = "/thumbnails/";
+
+  private final Path root;
+
+  public ThumbnailStore(@Value("${product.thumbnail.dir:./thumbnails}") String dir) {
+    this.root = Paths.get(dir).toAbsolutePath().normalize();
+    try {
+      Files.createDirectories(root);
+    } catch (IOException e) {
+      throw new UncheckedIOException("썸네일 디렉터리를 만들 수 없습니다: " + root, e);
+    }
+  }
+
+  public Path root() {
+    return root;
+  }
+
+  public boolean containsAll(String hash, List<Integer> widths) {
+    return widths.stream().allMatch(width -> Files.exists(path(hash, width)));
+  }
+
+  /**
+   * 임시 파일에 쓴 뒤 이동하므로 동시에 같은 해시를 써도 반쯤 쓰인 파일이 노출되지 않음
+   */
+  public void write(String hash, int width, byte[] bytes) throws IOException {
+    Path target = path(hash, width);
+    Files.createDirectories(target.getParent());
+    Path temp = Files.createTempFile(target.getParent(), width + "-", ".tmp");
+    try {
+      Files.write(temp, bytes);
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  public String url(String hash, int width) {
+    return URL_PREFIX + hash.substring(0, 2) + "/" + hash + "/" + width + ".jpg";
+  }
+
+  private Path path(String hash, int width) {
+    return root.resolve(hash.substring(0, 2)).resolve(hash).resolve(width + ".jpg");
+  }
+}
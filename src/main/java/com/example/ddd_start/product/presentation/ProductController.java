@@ -1,27 +1,32 @@
 package com.example.ddd_start.product.presentation;
 
+import com.example.ddd_start.common.domain.exception.NoMemberFoundException;
+import com.example.ddd_start.product.application.service.BulkRegisterProductService;
 import com.example.ddd_start.product.application.service.DeleteProductService;
 import com.example.ddd_start.product.application.service.LastlyRetrieveProductService;
 import com.example.ddd_start.product.application.service.PrintProductService;
 import com.example.ddd_start.product.application.service.RegisterProductService;
+import com.example.ddd_start.product.application.service.model.BulkRegisterProductResult;
 import com.example.ddd_start.product.application.service.model.NewProductRequest;
 import com.example.ddd_start.product.application.service.model.ProductDTO;
+import com.example.ddd_start.product.application.service.model.ProductSlice;
 import com.example.ddd_start.product.application.service.model.SearchProductCommand;
 import com.example.ddd_start.product.application.service.model.UpdateProductRequest;
-import com.example.ddd_start.product.domain.Product;
+import com.example.ddd_start.product.domain.dto.ProductSummaryDto;
 import com.example.ddd_start.product.presentation.model.RegisterProductCommand;
 import com.example.ddd_start.product.presentation.model.RegisterProductResponse;
 import com.example.ddd_start.product.presentation.model.SaveLastlyProductRequest;
 import com.example.ddd_start.product.presentation.model.UpdateProductCommand;
 import com.example.ddd_start.product.presentation.model.UpdateProductResponse;
+import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -30,6 +35,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,6 +44,7 @@ public class ProductController {
   private final PrintProductService printProductService;
   private final DeleteProductService deleteProductService;
   private final RegisterProductService registerProductService;
+  private final BulkRegisterProductService bulkRegisterProductService;
   private final LastlyRetrieveProductService lastlyRetrieveProductService;
 
   @GetMapping("/products")
@@ -46,10 +53,10 @@ public class ProductController {
       @RequestParam(defaultValue = "10") Integer size) {
     Pageable pageable = PageRequest.of(page, size);
 
-    List<ProductDTO> products = printProductService.printAllProducts(pageable);
+    List<ProductSummaryDto> products = printProductService.printAllProducts(pageable);
     return new ResponseEntity(
         products,
-        HttpStatus.ACCEPTED
+        HttpStatus.OK
     );
   }
 
@@ -57,14 +64,13 @@ public class ProductController {
   public ResponseEntity printAllProductsOrderByLowPrice(
       @RequestParam(defaultValue = "0") Integer page,
       @RequestParam(defaultValue = "10") Integer size) {
-    Pageable pageable = PageRequest.of(page,
-        size,
-        Sort.by("price.amount").ascending());
+    Pageable pageable = PageRequest.of(page, size);
 
-    Page<Product> products = printProductService.printAllProductsOrderByLowPrice(pageable);
+    Page<ProductSummaryDto> products = printProductService.printAllProductsOrderByLowPrice(
+        pageable);
     return new ResponseEntity(
         products,
-        HttpStatus.ACCEPTED
+        HttpStatus.OK
     );
   }
 
@@ -72,24 +78,36 @@ public class ProductController {
   public ResponseEntity printAllProductsOrderByHighPrice(
       @RequestParam(defaultValue = "0") Integer page,
       @RequestParam(defaultValue = "10") Integer size) {
-    Pageable pageable = PageRequest.of(page,
-        size,
-        Sort.by("price.amount").descending());
+    Pageable pageable = PageRequest.of(page, size);
 
-    Page<Product> products = printProductService.printAllProductsOrderByHighPrice(pageable);
+    Page<ProductSummaryDto> products = printProductService.printAllProductsOrderByHighPrice(
+        pageable);
     return new ResponseEntity(
         products,
-        HttpStatus.ACCEPTED
+        HttpStatus.OK
     );
   }
 
+  /**
+   * 상품 상세
+   * - 수정 시각 기반 약한 ETag / Last-Modified로 조건부 요청을 처리
+   * - 변경이 없으면 상세를 적재하지 않고 304 반환
+   */
   @GetMapping("/products/{productId}")
-  public ResponseEntity printProductById(@PathVariable Long productId) {
+  public ResponseEntity printProductById(@PathVariable Long productId, WebRequest request) {
+    Instant lastModified = printProductService.findProductLastModified(productId);
+    String etag = "W/\"product-" + productId + "-"
+        + lastModified.getEpochSecond() + "." + lastModified.getNano() + "\"";
+    if (request.checkNotModified(etag, lastModified.toEpochMilli())) {
+      // 304 응답은 checkNotModified에서 이미 설정됨
+      return null;
+    }
+
     ProductDTO product = printProductService.printProductById(productId);
-    return new ResponseEntity(
-        product,
-        HttpStatus.ACCEPTED
-    );
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .lastModified(lastModified)
+        .body(product);
   }
 
 
@@ -107,10 +125,47 @@ public class ProductController {
 
     return new ResponseEntity(
         product,
-        HttpStatus.ACCEPTED
+        HttpStatus.OK
     );
   }
 
+  /**
+   * 키셋(커서) 기반 목록 조회
+   * - count 쿼리 없이 다음 커서만 내려주므로 깊은 페이지도 첫 페이지와 비용이 같음
+   */
+  @GetMapping("/products/scroll")
+  public ResponseEntity scrollProducts(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") Integer size) {
+    ProductSlice slice = printProductService.scrollProducts(cursor, size);
+    return ResponseEntity.ok(slice);
+  }
+
+  @GetMapping("/products/scroll/low_price")
+  public ResponseEntity scrollProductsOrderByLowPrice(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") Integer size) {
+    ProductSlice slice = printProductService.scrollProductsOrderByPrice(cursor, size, true);
+    return ResponseEntity.ok(slice);
+  }
+
+  @GetMapping("/products/scroll/high_price")
+  public ResponseEntity scrollProductsOrderByHighPrice(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") Integer size) {
+    ProductSlice slice = printProductService.scrollProductsOrderByPrice(cursor, size, false);
+    return ResponseEntity.ok(slice);
+  }
+
+  @GetMapping("/products/scroll/category")
+  public ResponseEntity scrollProductsByCategoryId(
+      @RequestParam Long categoryId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") Integer size) {
+    ProductSlice slice = printProductService.scrollProductsByCategoryId(categoryId, cursor, size);
+    return ResponseEntity.ok(slice);
+  }
+
   @GetMapping("/products/search")
   public ResponseEntity searchProductsByTitle(
       @RequestParam String title,
@@ -119,7 +174,7 @@ public class ProductController {
   ) {
     Pageable pageable = PageRequest.of(page, size);
 
-    Page<Product> products = printProductService.searchProducts(
+    Page<ProductSummaryDto> products = printProductService.searchProducts(
         new SearchProductCommand(
             title,
             pageable
@@ -145,6 +200,30 @@ public class ProductController {
     );
   }
 
+  /**
+   * 상품 대량 등록
+   * - 항목별 결과를 반환하며, 일부 항목이 실패해도 나머지는 저장됨
+   */
+  @PostMapping("/products/bulk")
+  public ResponseEntity registerProducts(@RequestBody List<RegisterProductCommand> cmds) {
+    List<NewProductRequest> reqs = cmds.stream()
+        .map(cmd -> NewProductRequest.builder()
+            .title(cmd.title())
+            .slug(cmd.slug())
+            .price(cmd.price())
+            .description(cmd.description())
+            .categoryId(cmd.categoryId())
+            .images(cmd.images())
+            .build())
+        .toList();
+
+    BulkRegisterProductResult result = bulkRegisterProductService.registerProducts(reqs);
+    return new ResponseEntity(
+        result,
+        HttpStatus.ACCEPTED
+    );
+  }
+
   @PutMapping("/products")
   public ResponseEntity<UpdateProductResponse> updateProduct(
       @RequestBody UpdateProductCommand cmd) {
@@ -171,9 +250,19 @@ public class ProductController {
     return new ResponseEntity("상품이 정상적으로 삭제되었습니다.", HttpStatus.ACCEPTED);
   }
 
+  @GetMapping("/admin/products/cache/stats")
+  public ResponseEntity printProductDetailCacheStats() {
+    return ResponseEntity.ok(printProductService.printProductDetailCacheStats());
+  }
+
+  /**
+   * 로그인한 회원의 최근 본 상품으로 기록, 없는 상품이면 404
+   */
   @PostMapping("/products/lastly")
-  public ResponseEntity saveLastlyRetrievedProduct(@RequestBody SaveLastlyProductRequest req) {
-    lastlyRetrieveProductService.saveLastlyRetrieveProduct(req.memberId(), req.productId());
+  public ResponseEntity saveLastlyRetrievedProduct(@RequestBody SaveLastlyProductRequest req,
+      Authentication authentication) throws NoMemberFoundException {
+    lastlyRetrieveProductService.saveLastlyRetrieveProduct(authentication.getName(),
+        req.productId());
     return new ResponseEntity(
         HttpStatus.ACCEPTED
     );
@@ -185,7 +274,7 @@ public class ProductController {
         memberId);
     return new ResponseEntity(
         productDTOS,
-        HttpStatus.ACCEPTED
+        HttpStatus.OK
     );
   }
 }
@@ -1,4 +1,4 @@
 package com.example.ddd_start.product.presentation.model;
 
-public record SaveLastlyProductRequest(Long memberId, Long productId) {
+public record SaveLastlyProductRequest(Long productId) {
 }
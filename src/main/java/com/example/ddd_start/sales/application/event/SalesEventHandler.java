@@ -0,0 +1,97 @@
+package com.example.ddd_start.sales.application.event;
+
+import com.example.ddd_start.order.domain.OrderSummaryRepository;
+import com.example.ddd_start.order.domain.event.OrderCanceledEvent;
+import com.example.ddd_start.order.domain.event.OrderPlacedEvent;
+import com.example.ddd_start.sales.application.service.SalesAggregator;
+import com.example.ddd_start.sales.application.service.SalesAggregator.Line;
+import com.example.ddd_start.sales.domain.SalesDailyRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 주문 접수/취소 커밋 이후 매출 집계에 반영
+ * - 취소는 이벤트에 라인 정보가 없고 원본 주문 라인은 환불 처리에서 삭제되므로 order_summary의 라인 스냅샷을 사용
+ * - 집계 시작(countedSince) 이전에 접수된 주문은 접수가 집계되지 않았으므로 취소도 차감하지 않음
+ *   sales.counted-since(ISO-8601)가 없으면 sales_daily 첫 일자의 시작, 그마저 없으면 기동 시각으로 봄
+ *   (설정 없이 첫 일자로 추정하면 그날 집계 시작 전에 접수된 주문의 취소는 여전히 차감될 수 있음)
+ */
+@Slf4j
+@Component
+public class SalesEventHandler {
+
+  private final SalesAggregator salesAggregator;
+  private final OrderSummaryRepository orderSummaryRepository;
+  private final SalesDailyRepository salesDailyRepository;
+  private final String configuredCountedSince;
+  private final ZoneId zone;
+  private volatile Instant countedSince = Instant.now();
+
+  public SalesEventHandler(
+      SalesAggregator salesAggregator,
+      OrderSummaryRepository orderSummaryRepository,
+      SalesDailyRepository salesDailyRepository,
+      @Value("${sales.counted-since:}") String configuredCountedSince,
+      @Value("${sales.zone:Asia/Seoul}") String zone) {
+    this.salesAggregator = salesAggregator;
+    this.orderSummaryRepository = orderSummaryRepository;
+    this.salesDailyRepository = salesDailyRepository;
+    this.configuredCountedSince = configuredCountedSince;
+    this.zone = ZoneId.of(zone);
+  }
+
+  @PostConstruct
+  public void resolveCountedSince() {
+    if (!configuredCountedSince.isBlank()) {
+      countedSince = Instant.parse(configuredCountedSince);
+    } else {
+      LocalDate firstSalesDate = salesDailyRepository.findFirstSalesDate();
+      if (firstSalesDate != null) {
+        countedSince = firstSalesDate.atStartOfDay(zone).toInstant();
+      }
+    }
+    log.info("매출 집계 시작 시각: {}", countedSince);
+  }
+
+  @TransactionalEventListener(
+      classes = OrderPlacedEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(OrderPlacedEvent event) {
+    salesAggregator.record(event.getOrderedAt(), event.getLines().stream()
+        .map(line -> new Line(line.productId(), line.quantity(), line.amount()))
+        .toList(), 1);
+  }
+
+  @TransactionalEventListener(
+      classes = OrderCanceledEvent.class,
+      phase = TransactionPhase.AFTER_COMMIT,
+      fallbackExecution = true)
+  public void handle(OrderCanceledEvent event) {
+    orderSummaryRepository.findById(event.getOrderId()).ifPresentOrElse(
+        summary -> {
+          if (summary.getCreatedAt().isBefore(countedSince)) {
+            log.debug("집계 시작 전 접수된 주문의 취소는 차감하지 않음: orderId={}",
+                event.getOrderId());
+            return;
+          }
+          salesAggregator.record(summary.getCreatedAt(), summary.getLines().stream()
+              .map(line -> new Line(line.productId(), valueOf(line.quantity()),
+                  valueOf(line.amount())))
+              .toList(), -1);
+        },
+        () -> log.warn("주문 요약이 없어 취소를 매출 집계에 반영하지 못함: orderId={}",
+            event.getOrderId()));
+  }
+
+  private static int valueOf(Integer value) {
+    return value == null ? 0 : value;
+  }
+}
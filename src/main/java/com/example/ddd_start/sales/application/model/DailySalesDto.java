@@ -0,0 +1,10 @@
+package com.example.ddd_start.sales.application.model;
+
+import java.time.LocalDate;
+
+public record DailySalesDto(LocalDate salesDate,
+                            long orderCount,
+                            long units,
+                            long revenue) {
+
+}
@@ -0,0 +1,10 @@
+package com.example.ddd_start.sales.application.model;
+
+public record TopProductDto(int rank,
+                            Long productId,
+                            String title,
+                            long orderCount,
+                            long units,
+                            long revenue) {
+
+}
@@ -0,0 +1,159 @@
+package com.example.ddd_start.sales.application.service;
+
+import com.example.ddd_start.sales.domain.SalesDaily;
+import com.example.ddd_start.sales.infrastructure.SalesDailyBatchWriter;
+import com.example.ddd_start.sales.infrastructure.SalesDailyBatchWriter.SalesDelta;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 인메모리 매출 집계
+ * - (일자, 상품)별 주문 수/수량/금액을 LongAdder로 누적하므로 주문 스레드끼리 경합하지 않음
+ * - flush()가 누적분을 꺼내(sumThenReset) sales_daily에 더하고, 실패하면 다음 flush에 다시 반영
+ * - 어제/오늘 주문만 LongAdder로 누적하고, 그 이전 주문의 취소처럼 드문 갱신은 대기열로 받아 flush에서 반영
+ * - 지난 일자의 카운터는 flush 후 제거하므로 메모리는 최근 이틀치 상품 수에 비례
+ * - 마지막 flush 이후 누적분은 프로세스가 비정상 종료되면 유실됨 (정상 종료 시에는 flush)
+ */
+@Slf4j
+@Service
+public class SalesAggregator {
+
+  private final SalesDailyBatchWriter salesDailyBatchWriter;
+  private final Clock clock;
+  private final Map<SalesKey, Counters> counters = new ConcurrentHashMap<>();
+  private final Queue<SalesDelta> lateDeltas = new ConcurrentLinkedQueue<>();
+
+  @Autowired
+  public SalesAggregator(
+      SalesDailyBatchWriter salesDailyBatchWriter,
+      @Value("${sales.zone:Asia/Seoul}") String zone) {
+    this(salesDailyBatchWriter, Clock.system(ZoneId.of(zone)));
+  }
+
+  SalesAggregator(SalesDailyBatchWriter salesDailyBatchWriter, Clock clock) {
+    this.salesDailyBatchWriter = salesDailyBatchWriter;
+    this.clock = clock;
+  }
+
+  /**
+   * 주문 1건을 반영, sign은 접수 1 / 취소 -1
+   * - 같은 상품이 여러 라인에 있어도 상품별 주문 수는 1로 셈
+   */
+  public void record(Instant orderedAt, List<Line> lines, int sign) {
+    LocalDate salesDate = LocalDate.ofInstant(orderedAt, clock.getZone());
+    Map<Long, long[]> byProduct = new HashMap<>();
+    long orderUnits = 0;
+    long orderRevenue = 0;
+    for (Line line : lines) {
+      orderUnits += line.quantity();
+      orderRevenue += line.amount();
+      if (line.productId() != null) {
+        long[] sums = byProduct.computeIfAbsent(line.productId(), id -> new long[2]);
+        sums[0] += line.quantity();
+        sums[1] += line.amount();
+      }
+    }
+    byProduct.forEach((productId, sums) ->
+        add(salesDate, productId, sign, sign * sums[0], sign * sums[1]));
+    add(salesDate, SalesDaily.DAY_TOTAL, sign, sign * orderUnits, sign * orderRevenue);
+  }
+
+  private void add(LocalDate salesDate, long productId, long orderCount, long units,
+      long revenue) {
+    if (salesDate.isBefore(today().minusDays(1))) {
+      lateDeltas.add(new SalesDelta(salesDate, productId, orderCount, units, revenue));
+      return;
+    }
+    Counters c = counters.computeIfAbsent(new SalesKey(salesDate, productId),
+        key -> new Counters());
+    c.orderCount.add(orderCount);
+    c.units.add(units);
+    c.revenue.add(revenue);
+  }
+
+  /**
+   * 누적분을 sales_daily에 반영하고 반영한 행 수를 반환
+   */
+  @Scheduled(fixedDelayString = "${sales.flush-interval-ms:10000}")
+  public synchronized int flush() {
+    List<SalesDelta> deltas = new ArrayList<>();
+    SalesDelta late;
+    while ((late = lateDeltas.poll()) != null) {
+      deltas.add(late);
+    }
+    counters.forEach((key, c) -> {
+      long orderCount = c.orderCount.sumThenReset();
+      long units = c.units.sumThenReset();
+      long revenue = c.revenue.sumThenReset();
+      if (orderCount != 0 || units != 0 || revenue != 0) {
+        deltas.add(new SalesDelta(key.salesDate(), key.productId(), orderCount, units, revenue));
+      }
+    });
+
+    // 이틀 전 이하 일자는 더 이상 LongAdder로 누적하지 않으므로 제거
+    LocalDate evictBefore = today().minusDays(2);
+    counters.keySet().removeIf(key -> !key.salesDate().isAfter(evictBefore));
+
+    if (deltas.isEmpty()) {
+      return 0;
+    }
+    try {
+      salesDailyBatchWriter.accumulate(deltas);
+    } catch (RuntimeException e) {
+      // 반영은 한 트랜잭션이라 실패하면 아무 행도 바뀌지 않았으므로 전부 되돌려 재시도
+      lateDeltas.addAll(deltas);
+      log.warn("매출 집계 반영 실패, 다음 주기에 재시도: {}건 ({})", deltas.size(), e.getMessage());
+      return 0;
+    }
+    return deltas.size();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    int flushed = flush();
+    if (!lateDeltas.isEmpty()) {
+      log.warn("매출 집계를 모두 반영하지 못하고 종료: {}건", lateDeltas.size());
+    } else {
+      log.info("매출 집계 종료 전 반영: {}건", flushed);
+    }
+  }
+
+  private LocalDate today() {
+    return LocalDate.now(clock);
+  }
+
+  int counterCount() {
+    return counters.size();
+  }
+
+  public record Line(Long productId, int quantity, int amount) {
+
+  }
+
+  private record SalesKey(LocalDate salesDate, long productId) {
+
+  }
+
+  private static final class Counters {
+
+    private final LongAdder orderCount = new LongAdder();
+    private final LongAdder units = new LongAdder();
+    private final LongAdder revenue = new LongAdder();
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.ddd_start.sales.application.service;
+
+import com.example.ddd_start.product.domain.Product;
+import com.example.ddd_start.product.domain.ProductRepository;
+import com.example.ddd_start.sales.application.model.DailySalesDto;
+import com.example.ddd_start.sales.application.model.TopProductDto;
+import com.example.ddd_start.sales.domain.SalesDaily;
+import com.example.ddd_start.sales.domain.SalesDailyRepository;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * 매출 조회, orders/order_line 대신 sales_daily 집계 행만 읽음
+ * - 조회 직전에 집계기를 flush 해서 마지막 주기 이후 주문까지 반영
+ * - flush가 쓰기이므로 조회 메서드는 읽기 전용 트랜잭션으로 묶지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesQueryService {
+
+  private static final int MAX_DAYS = 366;
+  private static final int MAX_TOP = 100;
+
+  private final SalesAggregator salesAggregator;
+  private final SalesDailyRepository salesDailyRepository;
+  private final ProductRepository productRepository;
+
+  /**
+   * from ~ to (포함) 일자별 매출, 주문이 없는 날도 0으로 채워 반환
+   */
+  public List<DailySalesDto> findDailySales(LocalDate from, LocalDate to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+    }
+    if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+      throw new IllegalArgumentException("최대 " + MAX_DAYS + "일까지 조회할 수 있습니다.");
+    }
+    salesAggregator.flush();
+
+    Map<LocalDate, SalesDaily> totals = salesDailyRepository.findDayTotals(from, to).stream()
+        .collect(Collectors.toMap(s -> s.getId().getSalesDate(), Function.identity()));
+    List<DailySalesDto> result = new ArrayList<>();
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      SalesDaily total = totals.get(date);
+      result.add(total == null
+          ? new DailySalesDto(date, 0, 0, 0)
+          : new DailySalesDto(date, total.getOrderCount(), total.getUnits(), total.getRevenue()));
+    }
+    return result;
+  }
+
+  /**
+   * 해당 일자 매출 상위 k개 상품 (금액 내림차순)
+   */
+  public List<TopProductDto> findTopProducts(LocalDate salesDate, int k) {
+    salesAggregator.flush();
+
+    List<SalesDaily> top = salesDailyRepository.findTopProducts(salesDate,
+        PageRequest.of(0, Math.min(Math.max(k, 1), MAX_TOP)));
+    Map<Long, String> titles = productRepository.findAllById(top.stream()
+            .map(s -> s.getId().getProductId())
+            .toList())
+        .stream()
+        .collect(Collectors.toMap(Product::getId, Product::getTitle));
+
+    List<TopProductDto> result = new ArrayList<>(top.size());
+    for (SalesDaily s : top) {
+      Long productId = s.getId().getProductId();
+      result.add(new TopProductDto(result.size() + 1, productId, titles.get(productId),
+          s.getOrderCount(), s.getUnits(), s.getRevenue()));
+    }
+    return result;
+  }
+}
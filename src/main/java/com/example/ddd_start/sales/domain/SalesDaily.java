@@ -0,0 +1,30 @@
+package com.example.ddd_start.sales.domain;
+
+import java.time.Instant;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일자별 매출 집계 (SalesAggregator가 주기적으로 누적 반영)
+ * - productId가 DAY_TOTAL(0)인 행은 해당 일자 전체 합계, 나머지는 상품별 합계
+ * - 금액은 할인 전 주문 라인 금액 기준, 취소된 주문은 주문 일자에서 차감
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sales_daily")
+public class SalesDaily {
+
+  public static final long DAY_TOTAL = 0L;
+
+  @EmbeddedId
+  private SalesDailyId id;
+  private long orderCount;
+  private long units;
+  private long revenue;
+  private Instant updatedAt;
+}
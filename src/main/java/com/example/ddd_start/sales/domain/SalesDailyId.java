@@ -0,0 +1,21 @@
+package com.example.ddd_start.sales.domain;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import javax.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesDailyId implements Serializable {
+
+  private LocalDate salesDate;
+  private Long productId;
+}
@@ -0,0 +1,24 @@
+package com.example.ddd_start.sales.domain;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SalesDailyRepository extends JpaRepository<SalesDaily, SalesDailyId> {
+
+  @Query("select s from SalesDaily s where s.id.productId = 0 "
+      + "and s.id.salesDate between :from and :to order by s.id.salesDate")
+  List<SalesDaily> findDayTotals(LocalDate from, LocalDate to);
+
+  @Query("select s from SalesDaily s where s.id.salesDate = :salesDate and s.id.productId <> 0 "
+      + "order by s.revenue desc, s.units desc, s.id.productId")
+  List<SalesDaily> findTopProducts(LocalDate salesDate, Pageable pageable);
+
+  /**
+   * 집계가 처음 반영된 일자, 아직 없으면 null
+   */
+  @Query("select min(s.id.salesDate) from SalesDaily s")
+  LocalDate findFirstSalesDate();
+}
@@ -0,0 +1,55 @@
+package com.example.ddd_start.sales.infrastructure;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * sales_daily 누적 반영용 JDBC 배치
+ * - (sales_date, product_id) 행이 없으면 만들고, 있으면 증감분을 더하는 upsert
+ * - 한 번의 반영은 한 트랜잭션, 중간에 실패하면 전부 롤백되므로 호출자가 같은 증감분을 그대로 재시도해도 중복 누적되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SalesDailyBatchWriter {
+
+  private static final String UPSERT_SQL = "insert into sales_daily "
+      + "(sales_date, product_id, order_count, units, revenue, updated_at) "
+      + "values (?, ?, ?, ?, ?, ?) "
+      + "on duplicate key update order_count = order_count + values(order_count), "
+      + "units = units + values(units), revenue = revenue + values(revenue), "
+      + "updated_at = values(updated_at)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void accumulate(List<SalesDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    Timestamp now = Timestamp.from(Instant.now());
+    jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+      ps.setDate(1, Date.valueOf(delta.salesDate()));
+      ps.setLong(2, delta.productId());
+      ps.setLong(3, delta.orderCount());
+      ps.setLong(4, delta.units());
+      ps.setLong(5, delta.revenue());
+      ps.setTimestamp(6, now);
+    });
+  }
+
+  public record SalesDelta(LocalDate salesDate,
+                           long productId,
+                           long orderCount,
+                           long units,
+                           long revenue) {
+
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.ddd_start.sales.presentation;
+
+import com.example.ddd_start.sales.application.model.DailySalesDto;
+import com.example.ddd_start.sales.application.model.TopProductDto;
+import com.example.ddd_start.sales.application.service.SalesQueryService;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class SalesController {
+
+  private final SalesQueryService salesQueryService;
+
+  /**
+   * 일자별 매출 (from ~ to 포함, yyyy-MM-dd)
+   */
+  @GetMapping("/admin/sales/daily")
+  public ResponseEntity<List<DailySalesDto>> findDailySales(
+      @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate to) {
+    return ResponseEntity.ok(salesQueryService.findDailySales(from, to));
+  }
+
+  /**
+   * 해당 일자 매출 상위 상품
+   */
+  @GetMapping("/admin/sales/top-products")
+  public ResponseEntity<List<TopProductDto>> findTopProducts(
+      @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate date,
+      @RequestParam(defaultValue = "10") int k) {
+    return ResponseEntity.ok(salesQueryService.findTopProducts(date, k));
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.ddd_start.auth;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("관리자 경로 권한 검사")
+class SecurityConfigTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private JwtTokenProvider jwtTokenProvider;
+
+  @Test
+  @DisplayName("ADMIN 역할로 발급된 토큰은 /admin/** 에 접근할 수 있다")
+  void adminCanAccessAdminEndpoint() throws Exception {
+    mockMvc.perform(get("/admin/products/cache/stats")
+            .header("Authorization", "Bearer " + tokenOf("ADMIN")))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @DisplayName("USER 역할로 발급된 토큰은 /admin/** 에 접근할 수 없다")
+  void userCannotAccessAdminEndpoint() throws Exception {
+    mockMvc.perform(get("/admin/products/cache/stats")
+            .header("Authorization", "Bearer " + tokenOf("USER")))
+        .andExpect(status().isForbidden());
+  }
+
+  /**
+   * CustomUserDetailService와 같이 roles()로 만든 사용자로 토큰 발급 (권한은 ROLE_ 접두어가 붙음)
+   */
+  private String tokenOf(String role) {
+    UserDetails user = User.builder()
+        .username(role.toLowerCase() + "@example.com")
+        .password("password")
+        .roles(role)
+        .build();
+    return jwtTokenProvider.generateToken(
+            new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities()))
+        .accessToken();
+  }
+}
@@ -0,0 +1,166 @@
+package com.example.ddd_start.common.application.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ddd_start.common.domain.exception.IdempotencyKeyMismatchException;
+import com.example.ddd_start.common.domain.idempotency.IdempotencyEntry;
+import com.example.ddd_start.common.domain.idempotency.IdempotencyStore;
+import com.example.ddd_start.common.domain.idempotency.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@DisplayName("IdempotencyService 단위 테스트")
+class IdempotencyServiceTest {
+
+  private InMemoryStore store;
+  private IdempotencyService service;
+  private final AtomicInteger executions = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    store = new InMemoryStore();
+    service = new IdempotencyService(store, new ObjectMapper(), 100, 24, 60, 5_000);
+  }
+
+  @Test
+  @DisplayName("같은 키의 재시도는 다시 실행하지 않고 첫 응답을 돌려준다")
+  void replaysCompletedResponse() {
+    ResponseEntity<?> first = service.execute("place-order", "user", "key-1", new Req(1),
+        () -> ResponseEntity.ok(new Res(executions.incrementAndGet())));
+    ResponseEntity<?> retry = service.execute("place-order", "user", "key-1", new Req(1),
+        () -> ResponseEntity.ok(new Res(executions.incrementAndGet())));
+
+    assertThat(executions).hasValue(1);
+    assertThat(first.getBody()).isEqualTo(new Res(1));
+    assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+    assertThat(retry.getBody()).isEqualTo("{\"value\":1}");
+  }
+
+  @Test
+  @DisplayName("동시에 들어온 중복 요청은 첫 요청의 결과를 기다린다")
+  void concurrentDuplicatesWaitForFirst() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Future<ResponseEntity<?>>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(executor.submit(() -> service.execute("carts", "user", "key-2", new Req(2),
+          () -> {
+            started.countDown();
+            await(release);
+            return ResponseEntity.ok(new Res(executions.incrementAndGet()));
+          })));
+    }
+    started.await();
+    release.countDown();
+
+    for (Future<ResponseEntity<?>> result : results) {
+      assertThat(result.get().getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+    executor.shutdown();
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("같은 키로 다른 요청을 보내면 거절한다")
+  void rejectsDifferentRequestWithSameKey() {
+    service.execute("place-order", "user", "key-3", new Req(1),
+        () -> ResponseEntity.ok(new Res(1)));
+
+    assertThatThrownBy(() -> service.execute("place-order", "user", "key-3", new Req(2),
+        () -> ResponseEntity.ok(new Res(2))))
+        .isInstanceOf(IdempotencyKeyMismatchException.class);
+  }
+
+  @Test
+  @DisplayName("실패한 요청은 저장하지 않으므로 재시도하면 다시 실행된다")
+  void failedRequestCanBeRetried() {
+    assertThatThrownBy(() -> service.execute("place-order", "user", "key-4", new Req(1),
+        () -> {
+          executions.incrementAndGet();
+          throw new IllegalStateException("db down");
+        }))
+        .isInstanceOf(IllegalStateException.class);
+
+    service.execute("place-order", "user", "key-4", new Req(1),
+        () -> ResponseEntity.ok(new Res(executions.incrementAndGet())));
+    assertThat(executions).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 저장한 응답도 재사용한다")
+  void replaysResponseStoredByAnotherInstance() {
+    service.execute("carts", "user", "key-5", new Req(1),
+        () -> ResponseEntity.ok(new Res(executions.incrementAndGet())));
+    IdempotencyService other = new IdempotencyService(store, new ObjectMapper(), 100, 24, 60,
+        5_000);
+
+    ResponseEntity<?> retry = other.execute("carts", "user", "key-5", new Req(1),
+        () -> ResponseEntity.ok(new Res(executions.incrementAndGet())));
+
+    assertThat(executions).hasValue(1);
+    assertThat(retry.getBody()).isEqualTo("{\"value\":1}");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  record Req(int value) {
+
+  }
+
+  record Res(int value) {
+
+  }
+
+  static class InMemoryStore implements IdempotencyStore {
+
+    private final Map<String, IdempotencyEntry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean claim(String id, String requestHash, Instant leaseExpiresAt) {
+      return entries.putIfAbsent(id, new IdempotencyEntry(requestHash, null)) == null;
+    }
+
+    @Override
+    public Optional<IdempotencyEntry> find(String id) {
+      return Optional.ofNullable(entries.get(id));
+    }
+
+    @Override
+    public void complete(String id, StoredResponse response, Instant expiresAt) {
+      entries.put(id, new IdempotencyEntry(response.requestHash(), response));
+    }
+
+    @Override
+    public void release(String id) {
+      entries.remove(id);
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+      return 0;
+    }
+  }
+}
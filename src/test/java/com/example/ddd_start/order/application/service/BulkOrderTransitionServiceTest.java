@@ -0,0 +1,123 @@
+package com.example.ddd_start.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ddd_start.common.domain.Address;
+import com.example.ddd_start.order.application.model.BulkOrderTransitionResult;
+import com.example.ddd_start.order.application.model.BulkOrderTransitionResult.Item;
+import com.example.ddd_start.order.application.model.BulkOrderTransitionResult.Outcome;
+import com.example.ddd_start.order.application.model.OrderTransitionCommand;
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.dto.OrderStateRow;
+import com.example.ddd_start.order.domain.event.OrderStateChangedEvent;
+import com.example.ddd_start.order.domain.value.OrderState;
+import com.example.ddd_start.order.domain.value.Orderer;
+import com.example.ddd_start.order.domain.value.PaymentInfo;
+import com.example.ddd_start.order.domain.value.Receiver;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import com.example.ddd_start.order.infrastructure.OrderStateBatchWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 일괄 상태 변경을 H2에서 조건부 UPDATE 배치로 실행해 결과 분류/버전 증가/이벤트 발행을 검증
+ */
+@DataJpaTest
+@DisplayName("BulkOrderTransitionService 통합 테스트")
+class BulkOrderTransitionServiceTest {
+
+  private static final long MISSING_ORDER_ID = 999_999L;
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final List<Object> events = new ArrayList<>();
+  private OrderStateBatchWriter writer;
+  private BulkOrderTransitionService service;
+
+  @BeforeEach
+  void setUp() {
+    writer = new OrderStateBatchWriter(jdbcTemplate);
+    service = new BulkOrderTransitionService(writer, events::add, transactionManager, 500, 100);
+  }
+
+  private Long order(String orderNumber, OrderState state) {
+    ShippingInfo shippingInfo = new ShippingInfo(new Address("서울시", "101호", 12345),
+        new Receiver("수령인", "010-0000-0000"));
+    Orderer orderer = new Orderer(1L, "구매자", "010-0000-0000", "buyer@example.com");
+    Order order = new Order(orderNumber, List.of(), shippingInfo, "메시지", orderer,
+        PaymentInfo.CARD);
+    em.persist(order);
+    em.flush();
+    jdbcTemplate.update("update orders set order_state = ? where id = ?",
+        state.name(), order.getId());
+    return order.getId();
+  }
+
+  @Test
+  @DisplayName("성공/버전 충돌/허용되지 않는 전이/주문 없음/중복을 나누고 대상 상태별로 이벤트를 발행한다")
+  void transitMixedTargets() {
+    Long toShip = order("BULK-1", OrderState.PREPARING);
+    Long stale = order("BULK-2", OrderState.PREPARING);
+    Long notShipped = order("BULK-3", OrderState.PREPARING);
+    Long toDeliver = order("BULK-4", OrderState.SHIPPED);
+
+    BulkOrderTransitionResult result = service.transit(List.of(
+        new OrderTransitionCommand(toShip, 0, OrderState.SHIPPED),
+        new OrderTransitionCommand(stale, 3, OrderState.SHIPPED),
+        new OrderTransitionCommand(notShipped, 0, OrderState.DELIVERING),
+        new OrderTransitionCommand(MISSING_ORDER_ID, 0, OrderState.SHIPPED),
+        new OrderTransitionCommand(toDeliver, 0, OrderState.DELIVERING),
+        new OrderTransitionCommand(toShip, 1, OrderState.DELIVERING)));
+
+    assertThat(result.items()).extracting(Item::outcome).containsExactly(
+        Outcome.APPLIED,
+        Outcome.VERSION_CONFLICT,
+        Outcome.ILLEGAL_TRANSITION,
+        Outcome.NOT_FOUND,
+        Outcome.APPLIED,
+        Outcome.INVALID);
+    assertThat(result.applied()).isEqualTo(2);
+    assertThat(result.conflicted()).isEqualTo(1);
+    assertThat(result.rejected()).isEqualTo(3);
+    assertThat(result.items().get(1).currentVersion()).isZero();
+
+    Map<Long, OrderStateRow> rows = writer.findStates(List.of(toShip, stale, notShipped,
+            toDeliver)).stream()
+        .collect(Collectors.toMap(OrderStateRow::id, Function.identity()));
+    assertThat(rows.get(toShip)).isEqualTo(new OrderStateRow(toShip, OrderState.SHIPPED, 1));
+    assertThat(rows.get(toDeliver))
+        .isEqualTo(new OrderStateRow(toDeliver, OrderState.DELIVERING, 1));
+    assertThat(rows.get(stale)).isEqualTo(new OrderStateRow(stale, OrderState.PREPARING, 0));
+    assertThat(rows.get(notShipped))
+        .isEqualTo(new OrderStateRow(notShipped, OrderState.PREPARING, 0));
+
+    assertThat(events).hasSize(2);
+    assertThat(events).allSatisfy(event ->
+        assertThat(event).isInstanceOf(OrderStateChangedEvent.class));
+    Map<OrderState, List<Long>> idsByState = events.stream()
+        .map(OrderStateChangedEvent.class::cast)
+        .collect(Collectors.toMap(OrderStateChangedEvent::getOrderState,
+            OrderStateChangedEvent::getOrderIds));
+    assertThat(idsByState).containsOnly(
+        Map.entry(OrderState.SHIPPED, List.of(toShip)),
+        Map.entry(OrderState.DELIVERING, List.of(toDeliver)));
+  }
+}
@@ -0,0 +1,140 @@
+package com.example.ddd_start.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ddd_start.common.domain.exception.OrderIntakeFullException;
+import com.example.ddd_start.coupon.Exception.CouponAlreadyUsedException;
+import com.example.ddd_start.order.application.model.OrderIntakeStatus;
+import com.example.ddd_start.order.application.model.OrderIntakeStatus.State;
+import com.example.ddd_start.order.application.model.PlaceOrderCommand;
+import com.example.ddd_start.member.domain.MemberRepository;
+import com.example.ddd_start.order.application.service.OrderIntakeService.PendingOrder;
+import com.example.ddd_start.order.domain.OrderIntakeFailure;
+import com.example.ddd_start.order.domain.OrderIntakeFailureRepository;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.value.Orderer;
+import com.example.ddd_start.order.infrastructure.SnowflakeOrderNumberGenerator;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIntakeService 단위 테스트")
+class OrderIntakeServiceTest {
+
+  @Mock
+  private OrderService orderService;
+
+  @Mock
+  private OrderRepository orderRepository;
+
+  @Mock
+  private OrderIntakeFailureRepository orderIntakeFailureRepository;
+
+  @Mock
+  private MemberRepository memberRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private static final Long MEMBER_ID = 1L;
+
+  private OrderIntakeService intakeService(int queueCapacity) {
+    // 작성자 스레드를 띄우지 않도록 async=false 로 생성하고 write()를 직접 호출
+    return new OrderIntakeService(orderService, orderRepository, orderIntakeFailureRepository,
+        memberRepository, new SnowflakeOrderNumberGenerator(0), transactionManager,
+        false, queueCapacity, 1, 10, 600);
+  }
+
+  private PlaceOrderCommand command(String message) {
+    Orderer orderer = new Orderer(MEMBER_ID, "tester", "010-0000-0000", "tester@test.com");
+    return new PlaceOrderCommand(List.of(), null, message, orderer, null, List.of());
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 OrderIntakeFullException으로 거절한다")
+  void rejectsWhenQueueIsFull() throws Exception {
+    OrderIntakeService service = intakeService(1);
+
+    OrderIntakeStatus accepted = service.submit(command("first"));
+
+    assertThat(accepted.state()).isEqualTo(State.PENDING);
+    assertThat(service.findStatus(accepted.orderNumber(), MEMBER_ID)).contains(accepted);
+    assertThatThrownBy(() -> service.submit(command("second")))
+        .isInstanceOf(OrderIntakeFullException.class);
+    assertThat(service.queuedCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("묶음 저장이 실패하면 한 건씩 다시 저장해 실패한 주문만 FAILED로 남긴다")
+  void retriesOneByOneWhenBatchFails() throws Exception {
+    OrderIntakeService service = intakeService(10);
+    PlaceOrderCommand ok = command("ok");
+    PlaceOrderCommand usedCoupon = command("used-coupon");
+    when(orderService.placeOrder(eq(ok), anyString())).thenReturn(1L);
+    when(orderService.placeOrder(eq(usedCoupon), anyString()))
+        .thenThrow(new CouponAlreadyUsedException("Coupon is used"));
+
+    service.write(List.of(new PendingOrder("A-1", ok), new PendingOrder("B-1", usedCoupon)));
+
+    assertThat(service.findStatus("A-1", MEMBER_ID)).hasValueSatisfying(status -> {
+      assertThat(status.state()).isEqualTo(State.PLACED);
+      assertThat(status.orderId()).isEqualTo(1L);
+    });
+    assertThat(service.findStatus("B-1", MEMBER_ID)).hasValueSatisfying(status -> {
+      assertThat(status.state()).isEqualTo(State.FAILED);
+      assertThat(status.message()).isEqualTo("이미 사용한 쿠폰입니다.");
+    });
+  }
+
+  @Test
+  @DisplayName("다른 회원의 주문 번호로는 접수 상태가 조회되지 않는다")
+  void hidesStatusFromOtherMembers() throws Exception {
+    OrderIntakeService service = intakeService(10);
+
+    OrderIntakeStatus accepted = service.submit(command("mine"));
+
+    assertThat(service.findStatus(accepted.orderNumber(), 2L)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("실패 상태는 DB에 남겨 메모리에서 제거된 뒤에도 조회된다")
+  void persistsFailedStatus() throws Exception {
+    OrderIntakeService service = new OrderIntakeService(orderService, orderRepository,
+        orderIntakeFailureRepository, memberRepository, new SnowflakeOrderNumberGenerator(0),
+        transactionManager, false, 10, 1, 10, 0);
+    PlaceOrderCommand usedCoupon = command("used-coupon");
+    when(orderService.placeOrder(eq(usedCoupon), anyString()))
+        .thenThrow(new CouponAlreadyUsedException("Coupon is used"));
+
+    service.write(List.of(new PendingOrder("C-1", usedCoupon)));
+
+    ArgumentCaptor<OrderIntakeFailure> saved = ArgumentCaptor.forClass(OrderIntakeFailure.class);
+    verify(orderIntakeFailureRepository).save(saved.capture());
+    assertThat(saved.getValue().getMemberId()).isEqualTo(MEMBER_ID);
+
+    Thread.sleep(5);
+    service.purgeCompletedStatuses();
+    when(orderRepository.findFirstByOrderNumber("C-1")).thenReturn(Optional.empty());
+    when(orderIntakeFailureRepository.findById("C-1")).thenReturn(Optional.of(
+        new OrderIntakeFailure("C-1", MEMBER_ID, "이미 사용한 쿠폰입니다.", Instant.now())));
+
+    assertThat(service.findStatus("C-1", MEMBER_ID)).hasValueSatisfying(status -> {
+      assertThat(status.state()).isEqualTo(State.FAILED);
+      assertThat(status.message()).isEqualTo("이미 사용한 쿠폰입니다.");
+    });
+    assertThat(service.findStatus("C-1", 2L)).isEmpty();
+  }
+}
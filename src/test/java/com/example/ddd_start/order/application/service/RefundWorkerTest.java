@@ -0,0 +1,104 @@
+package com.example.ddd_start.order.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.ddd_start.common.domain.Address;
+import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.order.domain.Order;
+import com.example.ddd_start.order.domain.OrderLine;
+import com.example.ddd_start.order.domain.OrderLineRepository;
+import com.example.ddd_start.order.domain.OrderRepository;
+import com.example.ddd_start.order.domain.service.RefundService;
+import com.example.ddd_start.order.domain.value.Orderer;
+import com.example.ddd_start.order.domain.value.PaymentInfo;
+import com.example.ddd_start.order.domain.value.Receiver;
+import com.example.ddd_start.order.domain.value.RefundState;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import com.example.ddd_start.order.infrastructure.RefundBatchWriter;
+import com.example.ddd_start.product.domain.Product;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DisplayName("RefundWorker 단위 테스트")
+class RefundWorkerTest {
+
+  private static final int MAX_ATTEMPTS = 2;
+
+  private OrderRepository orderRepository;
+  private OrderLineRepository orderLineRepository;
+  private RefundService refundService;
+  private RefundBatchWriter refundBatchWriter;
+  private RefundWorker worker;
+  private Order order;
+
+  @BeforeEach
+  void setUp() {
+    orderRepository = mock(OrderRepository.class);
+    orderLineRepository = mock(OrderLineRepository.class);
+    refundService = mock(RefundService.class);
+    refundBatchWriter = mock(RefundBatchWriter.class);
+    worker = new RefundWorker(orderRepository, orderLineRepository, refundService,
+        refundBatchWriter, mock(PlatformTransactionManager.class),
+        10, 2, MAX_ATTEMPTS, 1_000, 1_000, 60_000);
+
+    order = canceledOrder(1L, 100L);
+    when(refundBatchWriter.findPendingIds(any(), anyInt())).thenReturn(List.of(1L));
+    when(refundBatchWriter.claim(anyList(), any(), any())).thenReturn(List.of(1L));
+    when(orderRepository.findAllById(any())).thenReturn(List.of(order));
+  }
+
+  @Test
+  @DisplayName("환불에 성공하면 환불을 완료하고 주문 라인을 삭제한다")
+  void completesRefund() {
+    assertThat(worker.drain()).isEqualTo(1);
+
+    verify(refundService).refund(100L, "order-refund-1");
+    assertThat(order.getRefundState()).isEqualTo(RefundState.REFUND_COMPLETED);
+    verify(orderLineRepository).deleteAllByOrderIdIn(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("환불에 실패하면 백오프 후 재시도하고, 최대 횟수를 넘으면 REFUND_FAILED로 멈춘다")
+  void backsOffAndGivesUp() {
+    doThrow(new IllegalStateException("pg timeout")).when(refundService)
+        .refund(100L, "order-refund-1");
+
+    worker.drain();
+    assertThat(order.getRefundState()).isEqualTo(RefundState.REFUND_START);
+    assertThat(order.getRefundAttempts()).isEqualTo(1);
+    assertThat(order.getRefundRetryAt()).isAfter(Instant.now());
+
+    worker.drain();
+    assertThat(order.getRefundState()).isEqualTo(RefundState.REFUND_FAILED);
+    assertThat(order.getRefundRetryAt()).isNull();
+    verify(orderLineRepository, never()).deleteAllByOrderIdIn(anyList());
+    // 재시도도 같은 멱등 키로 호출해야 결제 대행사가 중복 환불을 막을 수 있음
+    verify(refundService, times(2)).refund(100L, "order-refund-1");
+  }
+
+  private static Order canceledOrder(Long id, Long paymentId) {
+    Product product = new Product("상품", "product", new Money(1000), "설명", 1L, List.of(),
+        Instant.now(), Instant.now());
+    Order order = new Order("ORDER-" + id, List.of(new OrderLine(product, 1000, 1)),
+        new ShippingInfo(new Address("서울시", "101호", 12345), new Receiver("수령인", "010")),
+        null, new Orderer(1L, "구매자", "010", "buyer@example.com"), PaymentInfo.CARD);
+    ReflectionTestUtils.setField(order, "id", id);
+    ReflectionTestUtils.setField(order, "paymentId", paymentId);
+    order.cancel();
+    return order;
+  }
+}
@@ -0,0 +1,149 @@
+package com.example.ddd_start.order.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ddd_start.common.domain.Address;
+import com.example.ddd_start.common.domain.Money;
+import com.example.ddd_start.member.domain.Member;
+import com.example.ddd_start.order.application.model.OrderDetailResponse;
+import com.example.ddd_start.order.domain.dto.OrderDetailRow;
+import com.example.ddd_start.order.domain.value.Orderer;
+import com.example.ddd_start.order.domain.value.PaymentInfo;
+import com.example.ddd_start.order.domain.value.Receiver;
+import com.example.ddd_start.order.domain.value.ShippingInfo;
+import com.example.ddd_start.product.domain.Product;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 주문 상세 조회: 기존 findOrdersByMemberId 쿼리 vs 명시적 조인 단일 쿼리
+ * - 기존 쿼리는 Product에 조인 조건이 없어 (회원 주문 수 x 전체 상품 수) 행의 엔티티를 반환
+ * - 시드 데이터에서 두 쿼리의 행 수를 검증하고, 반복 실행한 평균 지연 시간을 로그로 남김
+ */
+@DataJpaTest
+@DisplayName("주문 상세 조회 쿼리 비교")
+class OrderDetailQueryBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(OrderDetailQueryBenchmarkTest.class);
+
+  private static final int PRODUCT_COUNT = 300;
+  private static final int ORDER_COUNT = 30;
+  private static final int LINES_PER_ORDER = 3;
+  private static final int WARMUP = 3;
+  private static final int ITERATIONS = 10;
+
+  // 제거된 OrderRepository.findOrdersByMemberId와 같은 의미의 쿼리 (Product 조인 조건 없음)
+  private static final String LEGACY_QUERY = "select o, m, p from orders o, Member m, Product p "
+      + "where o.orderer.memberId = :memberId and o.orderer.memberId = m.id";
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  private Long memberId;
+  private Long orderId;
+
+  @BeforeEach
+  void seed() {
+    Member member = new Member("buyer", "buyer@example.com", "password", "구매자",
+        new Address("서울시", "101호", 12345), "USER");
+    em.persist(member);
+    memberId = member.getId();
+
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < PRODUCT_COUNT; i++) {
+      Product product = new Product("상품 " + i, "product-" + i, new Money(1000 + i),
+          "설명", 1L, List.of(), Instant.now(), Instant.now());
+      em.persist(product);
+      products.add(product);
+    }
+
+    ShippingInfo shippingInfo = new ShippingInfo(new Address("서울시", "101호", 12345),
+        new Receiver("수령인", "010-0000-0000"));
+    Orderer orderer = new Orderer(memberId, "구매자", "010-0000-0000", "buyer@example.com");
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      List<OrderLine> lines = new ArrayList<>();
+      for (int k = 0; k < LINES_PER_ORDER; k++) {
+        Product product = products.get((i * LINES_PER_ORDER + k) % PRODUCT_COUNT);
+        lines.add(new OrderLine(product, product.getPrice().getAmount(), k + 1));
+      }
+      Order order = new Order("BENCH-" + i, lines, shippingInfo, "메시지", orderer,
+          PaymentInfo.CARD);
+      em.persist(order);
+      lines.forEach(line -> {
+        line.changeOrder(order);
+        em.persist(line);
+      });
+      orderId = order.getId();
+    }
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  @DisplayName("단일 쿼리는 주문 라인 수만큼의 행만 읽고, 기존 쿼리는 주문 x 전체 상품 행을 읽는다")
+  void compareRowCountsAndLatency() {
+    List<Object[]> legacyRows = legacy();
+    List<OrderDetailRow> detailRows = detail();
+
+    assertThat(legacyRows).hasSize(ORDER_COUNT * PRODUCT_COUNT);
+    assertThat(detailRows).hasSize(LINES_PER_ORDER);
+
+    OrderDetailResponse response = OrderDetailResponse.from(detailRows);
+    assertThat(response.orderId()).isEqualTo(orderId);
+    assertThat(response.orderer().memberId()).isEqualTo(memberId);
+    assertThat(response.orderLines())
+        .extracting(OrderDetailResponse.Line::productTitle)
+        .allSatisfy(title -> assertThat(title).startsWith("상품 "));
+
+    double legacyMillis = averageMillis(this::legacy);
+    double detailMillis = averageMillis(this::detail);
+    log.info("주문 상세 조회 비교: 기존 {}행 {}ms, 단일 쿼리 {}행 {}ms",
+        legacyRows.size(), String.format("%.2f", legacyMillis),
+        detailRows.size(), String.format("%.2f", detailMillis));
+  }
+
+  @Test
+  @DisplayName("다른 회원의 주문은 조회되지 않는다")
+  void filtersByMember() {
+    assertThat(orderRepository.findOrderDetailRows(orderId, memberId + 1)).isEmpty();
+    assertThat(orderRepository.findOrderDetailRows(orderId, null)).hasSize(LINES_PER_ORDER);
+  }
+
+  private List<Object[]> legacy() {
+    List<Object[]> rows = em.createQuery(LEGACY_QUERY, Object[].class)
+        .setParameter("memberId", memberId)
+        .getResultList();
+    em.clear();
+    return rows;
+  }
+
+  private List<OrderDetailRow> detail() {
+    List<OrderDetailRow> rows = orderRepository.findOrderDetailRows(orderId, memberId);
+    em.clear();
+    return rows;
+  }
+
+  private static double averageMillis(Supplier<?> query) {
+    for (int i = 0; i < WARMUP; i++) {
+      query.get();
+    }
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      query.get();
+    }
+    return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.ddd_start.order.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ddd_start.order.domain.OrderSummaryLine;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrderSummaryLinesConverter 단위 테스트")
+class OrderSummaryLinesConverterTest {
+
+  private final OrderSummaryLinesConverter converter = new OrderSummaryLinesConverter();
+
+  @Test
+  @DisplayName("주문 라인 스냅샷은 JSON으로 저장했다가 그대로 복원된다")
+  void roundTrip() {
+    List<OrderSummaryLine> lines = List.of(
+        new OrderSummaryLine(1L, 10L, "무선 키보드, \"한정판\"", "https://img/1.png", 30000, 2, 60000),
+        new OrderSummaryLine(2L, 11L, null, null, 1000, 1, 1000));
+
+    String json = converter.convertToDatabaseColumn(lines);
+
+    assertThat(converter.convertToEntityAttribute(json)).isEqualTo(lines);
+  }
+
+  @Test
+  @DisplayName("비어 있거나 null인 컬럼은 빈 목록으로 읽는다")
+  void emptyColumn() {
+    assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+    assertThat(converter.convertToEntityAttribute("")).isEmpty();
+    assertThat(converter.convertToDatabaseColumn(null)).isEqualTo("[]");
+  }
+}
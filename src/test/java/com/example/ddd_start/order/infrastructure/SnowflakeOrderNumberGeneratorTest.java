@@ -0,0 +1,73 @@
+package com.example.ddd_start.order.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SnowflakeOrderNumberGenerator 단위 테스트")
+class SnowflakeOrderNumberGeneratorTest {
+
+  @Test
+  @DisplayName("같은 밀리초에 순번을 다 쓰면 다음 밀리초로 넘어가며 번호는 계속 증가한다")
+  void staysMonotonicWhenSequenceOverflows() {
+    AtomicLong clock = new AtomicLong(SnowflakeOrderNumberGenerator.EPOCH_MILLIS + 1_000);
+    SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(3, clock::get);
+
+    String previous = generator.nextOrderNumber();
+    for (int i = 0; i < 10_000; i++) {
+      String next = generator.nextOrderNumber();
+      assertThat(next).hasSize(SnowflakeOrderNumberGenerator.LENGTH);
+      assertThat(next).isGreaterThan(previous);
+      previous = next;
+    }
+
+    // 시계가 뒤로 가도 번호는 줄어들지 않음
+    clock.addAndGet(-500);
+    assertThat(generator.nextOrderNumber()).isGreaterThan(previous);
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 발급해도 중복이 없다")
+  void generatesUniqueNumbersConcurrently() throws Exception {
+    SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1);
+    Set<String> issued = ConcurrentHashMap.newKeySet();
+    int threads = 8;
+    int perThread = 20_000;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < perThread; i++) {
+            issued.add(generator.nextOrderNumber());
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(issued).hasSize(threads * perThread);
+  }
+
+  @Test
+  @DisplayName("노드 id는 10bit 범위를 벗어날 수 없다")
+  void rejectsOutOfRangeNodeId() {
+    assertThatThrownBy(() -> new SnowflakeOrderNumberGenerator(1024))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
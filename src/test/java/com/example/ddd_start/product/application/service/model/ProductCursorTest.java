@@ -0,0 +1,32 @@
+package com.example.ddd_start.product.application.service.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductCursor 단위 테스트")
+class ProductCursorTest {
+
+  @Test
+  @DisplayName("가격이 없는 상품의 커서도 가격 정렬용 커서로 복원된다")
+  void decode_NullPriceKeepsPriceOrdered() {
+    ProductCursor cursor = ProductCursor.decode(ProductCursor.ofPrice(null, 7L).encode(), true);
+
+    assertThat(cursor).isEqualTo(ProductCursor.ofPrice(null, 7L));
+  }
+
+  @Test
+  @DisplayName("목록 종류와 맞지 않는 커서는 거부한다")
+  void decode_RejectsMismatchedCursor() {
+    String idCursor = ProductCursor.ofId(7L).encode();
+    String priceCursor = ProductCursor.ofPrice(1000, 7L).encode();
+
+    assertThatThrownBy(() -> ProductCursor.decode(idCursor, true))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ProductCursor.decode(priceCursor, false))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(ProductCursor.decode(priceCursor, true)).isEqualTo(ProductCursor.ofPrice(1000, 7L));
+  }
+}
@@ -0,0 +1,95 @@
+package com.example.ddd_start.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CategoryProductSummary 단위 테스트")
+class CategoryProductSummaryTest {
+
+  private CategoryProductSummary summary;
+
+  @BeforeEach
+  void setUp() {
+    Map<Long, Long> productCategories = new HashMap<>();
+    for (long id = 1; id <= 30; id++) {
+      productCategories.put(id, id % 2 == 0 ? 10L : 20L);
+    }
+    summary = new CategoryProductSummary();
+    summary.load(productCategories);
+    summary.markReady();
+  }
+
+  @Test
+  @DisplayName("카테고리별 상품 수를 센다")
+  void counts() {
+    assertThat(summary.counts()).containsEntry(10L, 15).containsEntry(20L, 15);
+  }
+
+  @Test
+  @DisplayName("첫 페이지는 id 오름차순")
+  void firstIds() {
+    assertThat(summary.firstIds(10L, 3)).contains(List.of(2L, 4L, 6L));
+    assertThat(summary.firstIds(99L, 3)).contains(List.of());
+  }
+
+  @Test
+  @DisplayName("보관 범위를 넘는 페이지 크기는 DB 조회로 넘긴다")
+  void firstIds_TooLarge() {
+    assertThat(summary.firstIds(10L, CategoryProductSummary.FIRST_PAGE_SIZE + 1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("카테고리가 바뀌면 양쪽 요약이 함께 갱신된다")
+  void put_MovesCategory() {
+    long before = summary.revision();
+
+    summary.put(2L, 20L);
+
+    assertThat(summary.counts()).containsEntry(10L, 14).containsEntry(20L, 16);
+    assertThat(summary.firstIds(20L, 3)).contains(List.of(1L, 2L, 3L));
+    assertThat(summary.revision()).isGreaterThan(before);
+  }
+
+  @Test
+  @DisplayName("첫 페이지 상품이 삭제되면 다음 상품으로 채운다")
+  void remove_RefillsFirstPage() {
+    Map<Long, Long> many = new HashMap<>();
+    for (long id = 1; id <= CategoryProductSummary.FIRST_PAGE_SIZE + 5; id++) {
+      many.put(id, 1L);
+    }
+    summary.load(many);
+
+    summary.remove(1L);
+
+    List<Long> first = summary.firstIds(1L, CategoryProductSummary.FIRST_PAGE_SIZE).get();
+    assertThat(first).hasSize(CategoryProductSummary.FIRST_PAGE_SIZE);
+    assertThat(first.get(0)).isEqualTo(2L);
+    assertThat(first.get(first.size() - 1))
+        .isEqualTo((long) CategoryProductSummary.FIRST_PAGE_SIZE + 1);
+    assertThat(summary.counts()).containsEntry(1L, CategoryProductSummary.FIRST_PAGE_SIZE + 4);
+  }
+
+  @Test
+  @DisplayName("적재 중 들어온 변경은 적재 결과에 덮어써진다")
+  void load_ReplaysChangesDuringLoad() {
+    CategoryProductSummary loading = new CategoryProductSummary();
+    loading.beginLoad();
+    // 스캔이 이미 읽고 지나간 상품의 변경
+    loading.put(1L, 20L);
+    loading.remove(2L);
+    loading.put(5L, 10L);
+
+    loading.load(Map.of(1L, 10L, 2L, 10L, 3L, 10L));
+    loading.markReady();
+
+    assertThat(loading.counts()).containsEntry(10L, 2).containsEntry(20L, 1);
+    assertThat(loading.firstIds(10L, 3)).contains(List.of(3L, 5L));
+    assertThat(loading.firstIds(20L, 3)).contains(List.of(1L));
+  }
+}
@@ -0,0 +1,161 @@
+package com.example.ddd_start.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.ddd_start.product.application.service.model.ProductDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 로컬 스텁 HTTP 서버가 chunked 응답으로 피드를 생성하며 내려준다
+ * - 기본은 수십 MB, -Dfeed.stub.items=300000 으로 수백 MB 피드 검증 가능
+ */
+@DisplayName("ProductFeedReader 스트리밍 테스트")
+class ProductFeedReaderTest {
+
+  private static final int ITEMS = Integer.getInteger("feed.stub.items", 20_000);
+  private static final String DESCRIPTION = "x".repeat(1024);
+
+  private HttpServer server;
+  private ProductFeedReader reader;
+  private final CountDownLatch firstChunkConsumed = new CountDownLatch(1);
+  private final AtomicBoolean consumedBeforeFeedEnd = new AtomicBoolean(false);
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/products", exchange -> {
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, 0);
+      try (Writer writer = new BufferedWriter(
+          new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8))) {
+        writer.write('[');
+        for (int i = 1; i <= ITEMS; i++) {
+          if (i > 1) {
+            writer.write(',');
+          }
+          writeProduct(writer, i);
+          if (i == ITEMS / 2) {
+            // 절반을 보낸 뒤 소비자가 첫 chunk를 받을 때까지 대기 (전체 버퍼링이면 여기서 막힘)
+            writer.flush();
+            awaitFirstChunk();
+          }
+        }
+        writer.write(']');
+      }
+    });
+    server.start();
+
+    ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    reader = new ProductFeedReader(new RestTemplate(), objectMapper);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("피드 전체를 받기 전에 chunk 단위로 전달한다")
+  void read_StreamsInChunks() {
+    int chunkSize = 500;
+    List<Integer> chunkSizes = new ArrayList<>();
+    long[] lastId = {0};
+
+    long read = reader.read(url(), chunkSize, chunk -> {
+      chunkSizes.add(chunk.size());
+      for (ProductDTO dto : chunk) {
+        assertThat(dto.getId()).isEqualTo(lastId[0] + 1);
+        lastId[0] = dto.getId();
+      }
+      firstChunkConsumed.countDown();
+    });
+
+    assertThat(read).isEqualTo(ITEMS);
+    assertThat(lastId[0]).isEqualTo(ITEMS);
+    assertThat(chunkSizes).allMatch(size -> size <= chunkSize);
+    assertThat(chunkSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(ITEMS);
+    assertThat(consumedBeforeFeedEnd).isTrue();
+  }
+
+  @Test
+  @DisplayName("상품과 카테고리 필드를 역직렬화한다")
+  void read_DeserializesFields() {
+    List<ProductDTO> first = new ArrayList<>();
+
+    reader.read(url(), 1, chunk -> {
+      if (first.isEmpty()) {
+        first.addAll(chunk);
+      }
+      firstChunkConsumed.countDown();
+    });
+
+    ProductDTO dto = first.get(0);
+    assertThat(dto.getTitle()).isEqualTo("상품 1");
+    assertThat(dto.getPrice()).isEqualTo(1001);
+    assertThat(dto.getCategory().getId()).isEqualTo(2L);
+    assertThat(dto.getImages()).containsExactly("https://img/1-a.png", "https://img/1-b.png");
+  }
+
+  @Test
+  @DisplayName("배열이 아닌 피드는 거부한다")
+  void read_NotArray_ThrowsException() {
+    server.createContext("/object", exchange -> {
+      byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+
+    assertThatThrownBy(() -> reader.read(
+        "http://127.0.0.1:" + server.getAddress().getPort() + "/object", 10, chunk -> {
+        }))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private void awaitFirstChunk() {
+    try {
+      consumedBeforeFeedEnd.set(firstChunkConsumed.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private String url() {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/products";
+  }
+
+  private static void writeProduct(Writer writer, int id) throws IOException {
+    writer.write("{\"id\":" + id
+        + ",\"title\":\"상품 " + id + "\""
+        + ",\"slug\":\"product-" + id + "\""
+        + ",\"price\":" + (1000 + id)
+        + ",\"description\":\"" + DESCRIPTION + "\""
+        + ",\"category\":{\"id\":" + (id % 5 + 1) + ",\"name\":\"c\",\"slug\":\"c\""
+        + ",\"image\":\"https://img/c.png\",\"creationAt\":\"2024-01-01T00:00:00.000Z\""
+        + ",\"updatedAt\":\"2024-01-01T00:00:00.000Z\"}"
+        + ",\"images\":[\"https://img/" + id + "-a.png\",\"https://img/" + id + "-b.png\"]"
+        + ",\"creationAt\":\"2024-01-01T00:00:00.000Z\""
+        + ",\"updatedAt\":\"2024-01-01T00:00:00.000Z\""
+        + ",\"unknownField\":true}");
+  }
+}
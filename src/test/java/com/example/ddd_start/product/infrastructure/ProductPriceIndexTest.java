@@ -0,0 +1,104 @@
+package com.example.ddd_start.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductPriceIndex 단위 테스트")
+class ProductPriceIndexTest {
+
+  private ProductPriceIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ProductPriceIndex();
+    index.load(
+        new long[]{1L, 2L, 3L, 4L, 5L},
+        new int[]{3000, 1000, 2000, 1000, 5000},
+        5);
+  }
+
+  @Test
+  @DisplayName("낮은 가격순은 (가격, id) 오름차순")
+  void page_Ascending() {
+    assertThat(index.page(0, 10, true)).containsExactly(2L, 4L, 3L, 1L, 5L);
+  }
+
+  @Test
+  @DisplayName("높은 가격순은 (가격, id) 내림차순")
+  void page_Descending() {
+    assertThat(index.page(0, 10, false)).containsExactly(5L, 1L, 3L, 4L, 2L);
+  }
+
+  @Test
+  @DisplayName("offset과 limit으로 페이지를 자른다")
+  void page_OffsetAndLimit() {
+    assertThat(index.page(1, 2, true)).containsExactly(4L, 3L);
+    assertThat(index.page(4, 2, false)).containsExactly(2L);
+    assertThat(index.page(5, 2, true)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("가격이 바뀌면 새 위치로 이동한다")
+  void put_UpdatesPosition() {
+    index.put(5L, 500);
+    index.put(6L, 2000);
+
+    assertThat(index.page(0, 10, true)).containsExactly(5L, 2L, 4L, 3L, 6L, 1L);
+    assertThat(index.size()).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("삭제된 상품은 제외된다")
+  void remove_ExcludesProduct() {
+    index.remove(3L);
+    index.remove(99L);
+
+    assertThat(index.page(0, 10, true)).containsExactly(2L, 4L, 1L, 5L);
+    assertThat(index.size()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("초기 용량을 넘어도 정렬이 유지된다")
+  void put_GrowsCapacity() {
+    ProductPriceIndex empty = new ProductPriceIndex();
+    for (long id = 2000; id >= 1; id--) {
+      empty.put(id, (int) (id % 10));
+    }
+
+    assertThat(empty.size()).isEqualTo(2000);
+    assertThat(empty.page(0, 3, true)).containsExactly(10L, 20L, 30L);
+    assertThat(empty.page(0, 2, false)).containsExactly(1999L, 1989L);
+  }
+
+  @Test
+  @DisplayName("적재 중 들어온 변경은 적재 결과에 덮어써진다")
+  void load_ReplaysChangesDuringLoad() {
+    ProductPriceIndex loading = new ProductPriceIndex();
+    loading.beginLoad();
+    // 스캔이 이미 읽고 지나간 상품의 변경
+    loading.put(1L, 9000);
+    loading.remove(2L);
+    loading.put(7L, 1500);
+
+    loading.load(new long[]{3L, 1L, 2L}, new int[]{2000, 3000, 1000}, 3);
+    loading.put(8L, 100);
+
+    assertThat(loading.page(0, 10, true)).containsExactly(8L, 7L, 3L, 1L);
+    assertThat(loading.size()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("같은 가격은 입력 순서와 무관하게 id 오름차순")
+  void load_SortsSamePriceById() {
+    ProductPriceIndex loaded = new ProductPriceIndex();
+    loaded.load(
+        new long[]{9L, 3L, 7L, 1L},
+        new int[]{100, 100, ProductPriceIndex.normalize(null), 100},
+        4);
+
+    assertThat(loaded.page(0, 10, true)).containsExactly(7L, 1L, 3L, 9L);
+  }
+}
@@ -0,0 +1,120 @@
+package com.example.ddd_start.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ddd_start.product.infrastructure.ProductSearchIndex.SearchHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ProductSearchIndex 단위 테스트")
+class ProductSearchIndexTest {
+
+  private ProductSearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ProductSearchIndex();
+    index.index(1L, "무선 블루투스 이어폰", "노이즈 캔슬링 지원");
+    index.index(2L, "유선 이어폰", "가성비 좋은 기본형");
+    index.index(3L, "블루투스 스피커", "휴대용 무선 스피커, 이어폰 연결 가능");
+    index.index(4L, "Classic Leather Jacket", "genuine leather");
+  }
+
+  @Test
+  @DisplayName("한글 단어는 bigram으로 분해된다")
+  void tokenize_Korean() {
+    assertThat(ProductSearchIndex.tokenize("이어폰"))
+        .containsExactly("이어", "어폰");
+  }
+
+  @Test
+  @DisplayName("한글 부분 문자열로 검색된다")
+  void search_KoreanSubstring() {
+    SearchHits hits = index.search("어폰", 0, 10);
+
+    assertThat(hits.totalHits()).isEqualTo(3);
+    assertThat(hits.productIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+  }
+
+  @Test
+  @DisplayName("제목 일치가 설명 일치보다 먼저 정렬된다")
+  void search_TitleRankedAboveDescription() {
+    SearchHits hits = index.search("이어폰", 0, 10);
+
+    assertThat(hits.productIds()).last().isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("질의의 모든 토큰을 포함하는 상품만 반환한다")
+  void search_AllTokensRequired() {
+    SearchHits hits = index.search("블루투스 이어폰", 0, 10);
+
+    assertThat(hits.productIds()).containsExactly(1L, 3L);
+  }
+
+  @Test
+  @DisplayName("대소문자를 구분하지 않는다")
+  void search_CaseInsensitive() {
+    assertThat(index.search("LEATHER", 0, 10).productIds()).containsExactly(4L);
+  }
+
+  @Test
+  @DisplayName("한 글자 질의도 검색된다")
+  void search_SingleCharacter() {
+    assertThat(index.search("폰", 0, 10).totalHits()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("offset/limit으로 페이지를 자르고 전체 건수는 유지한다")
+  void search_Paging() {
+    SearchHits hits = index.search("어폰", 1, 1);
+
+    assertThat(hits.productIds()).hasSize(1);
+    assertThat(hits.totalHits()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("수정 시 이전 토큰은 제거된다")
+  void index_UpdateReplacesTokens() {
+    index.index(2L, "유선 헤드셋", "게이밍");
+
+    assertThat(index.search("이어폰", 0, 10).productIds()).doesNotContain(2L);
+    assertThat(index.search("헤드셋", 0, 10).productIds()).containsExactly(2L);
+  }
+
+  @Test
+  @DisplayName("삭제된 상품은 검색되지 않는다")
+  void remove() {
+    index.remove(1L);
+
+    assertThat(index.search("블루투스", 0, 10).productIds()).containsExactly(3L);
+    assertThat(index.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("삭제 후 한 글자 질의에서도 빠진다")
+  void remove_SingleCharacter() {
+    index.remove(2L);
+
+    assertThat(index.search("폰", 0, 10).productIds()).containsExactlyInAnyOrder(1L, 3L);
+    assertThat(index.search("유", 0, 10).totalHits()).isZero();
+  }
+
+  @Test
+  @DisplayName("적재 중 들어온 수정/삭제는 스캔 결과보다 우선한다")
+  void finishLoad_ReplaysPendingChanges() {
+    ProductSearchIndex loading = new ProductSearchIndex();
+    loading.beginLoad();
+    loading.index(1L, "유선 헤드셋", "게이밍");
+    loading.remove(2L);
+    // 스캔은 변경 이전에 읽은 값을 뒤늦게 반영
+    loading.load(1L, "무선 블루투스 이어폰", "노이즈 캔슬링 지원");
+    loading.load(2L, "유선 이어폰", "가성비 좋은 기본형");
+    loading.finishLoad();
+
+    assertThat(loading.search("헤드셋", 0, 10).productIds()).containsExactly(1L);
+    assertThat(loading.search("이어폰", 0, 10).totalHits()).isZero();
+    assertThat(loading.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.ddd_start.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.ddd_start.product.infrastructure.RecentlyViewedBuffer.Entry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecentlyViewedBuffer 단위 테스트")
+class RecentlyViewedBufferTest {
+
+  private final RecentlyViewedBuffer buffer = new RecentlyViewedBuffer(100);
+
+  @Test
+  @DisplayName("최신 순으로 최대 7건만 유지한다")
+  void push_KeepsLatestSeven() {
+    for (long productId = 1; productId <= 10; productId++) {
+      buffer.push(1L, productId, memberId -> List.of());
+    }
+
+    assertThat(buffer.recent(1L, memberId -> List.of()))
+        .containsExactly(10L, 9L, 8L, 7L, 6L, 5L, 4L);
+  }
+
+  @Test
+  @DisplayName("처음 접근한 회원은 기존 기록을 적재한 뒤 이어서 기록한다")
+  void push_LoadsExistingHistoryOnce() {
+    List<Entry> stored = List.of(
+        new Entry(30L, Instant.now()),
+        new Entry(20L, Instant.now()),
+        new Entry(10L, Instant.now()));
+
+    buffer.push(1L, 40L, memberId -> stored);
+
+    assertThat(buffer.recent(1L, memberId -> List.of()))
+        .containsExactly(40L, 30L, 20L, 10L);
+  }
+
+  @Test
+  @DisplayName("변경된 회원만 꺼내며 꺼낸 뒤에는 dirty가 해제된다")
+  void drainDirty_ReturnsChangedMembersOnce() {
+    buffer.push(1L, 100L, memberId -> List.of());
+    buffer.recent(2L, memberId -> List.of(new Entry(200L, Instant.now())));
+
+    Map<Long, List<Entry>> first = buffer.drainDirty();
+    Map<Long, List<Entry>> second = buffer.drainDirty();
+
+    assertThat(first).containsOnlyKeys(1L);
+    assertThat(first.get(1L)).extracting(Entry::productId).containsExactly(100L);
+    assertThat(second).isEmpty();
+  }
+}
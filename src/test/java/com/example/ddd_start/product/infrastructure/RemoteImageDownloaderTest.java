@@ -0,0 +1,44 @@
+package com.example.ddd_start.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("RemoteImageDownloader 단위 테스트")
+class RemoteImageDownloaderTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "file:///etc/passwd",
+      "ftp://93.184.216.34/image.png",
+      "http://127.0.0.1/image.png",
+      "http://localhost:8080/admin",
+      "http://169.254.169.254/latest/meta-data/",
+      "http://10.0.0.5/image.png",
+      "http://172.16.0.1/image.png",
+      "http://192.168.0.10/image.png",
+      "http://100.64.0.1/image.png",
+      "http://0.0.0.0/image.png",
+      "http://[::1]/image.png",
+      "http://[fd00::1]/image.png",
+      "http://[::ffff:127.0.0.1]/image.png"
+  })
+  @DisplayName("http/https가 아니거나 내부 주소를 가리키는 URL은 거부한다")
+  void verify_RejectsInternalTargets(String url) {
+    assertThatThrownBy(() -> RemoteImageDownloader.verify(new URL(url)))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("외부 주소의 http/https URL은 허용한다")
+  void verify_AllowsPublicAddress() {
+    assertThatCode(() -> RemoteImageDownloader.verify(new URL("https://93.184.216.34/a.png")))
+        .doesNotThrowAnyException();
+  }
+}
@@ -0,0 +1,82 @@
+package com.example.ddd_start.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ThumbnailGenerator 단위 테스트")
+class ThumbnailGeneratorTest {
+
+  private final ThumbnailGenerator generator = new ThumbnailGenerator();
+
+  @Test
+  @DisplayName("요청한 폭마다 비율을 유지한 JPEG 썸네일을 만든다")
+  void generate_KeepsAspectRatio() throws IOException {
+    byte[] source = png(1200, 800, BufferedImage.TYPE_INT_ARGB);
+
+    Map<Integer, byte[]> thumbnails = generator.generate(source, List.of(160, 320));
+
+    assertThat(thumbnails).containsOnlyKeys(160, 320);
+    BufferedImage small = ImageIO.read(new ByteArrayInputStream(thumbnails.get(160)));
+    BufferedImage medium = ImageIO.read(new ByteArrayInputStream(thumbnails.get(320)));
+    assertThat(small.getWidth()).isEqualTo(160);
+    assertThat(small.getHeight()).isEqualTo(107);
+    assertThat(medium.getWidth()).isEqualTo(320);
+    assertThat(medium.getHeight()).isEqualTo(213);
+  }
+
+  @Test
+  @DisplayName("원본보다 큰 폭으로는 확대하지 않는다")
+  void generate_DoesNotUpscale() throws IOException {
+    byte[] source = png(100, 50, BufferedImage.TYPE_INT_RGB);
+
+    Map<Integer, byte[]> thumbnails = generator.generate(source, List.of(640));
+
+    BufferedImage result = ImageIO.read(new ByteArrayInputStream(thumbnails.get(640)));
+    assertThat(result.getWidth()).isEqualTo(100);
+    assertThat(result.getHeight()).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("이미지가 아닌 내용은 거부한다")
+  void generate_NotImage_ThrowsException() {
+    byte[] source = "not an image".getBytes(StandardCharsets.UTF_8);
+
+    assertThatThrownBy(() -> generator.generate(source, List.of(160)))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("같은 내용은 같은 해시를 갖는다")
+  void sha256_SameContent() {
+    byte[] a = "image".getBytes(StandardCharsets.UTF_8);
+    byte[] b = "image".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(ThumbnailPipeline.sha256(a))
+        .isEqualTo(ThumbnailPipeline.sha256(b))
+        .hasSize(64);
+  }
+
+  private static byte[] png(int width, int height, int type) throws IOException {
+    BufferedImage image = new BufferedImage(width, height, type);
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.ORANGE);
+    g.fillRect(0, 0, width / 2, height);
+    g.dispose();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,112 @@
+package com.example.ddd_start.sales.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.ddd_start.sales.application.service.SalesAggregator.Line;
+import com.example.ddd_start.sales.domain.SalesDaily;
+import com.example.ddd_start.sales.infrastructure.SalesDailyBatchWriter;
+import com.example.ddd_start.sales.infrastructure.SalesDailyBatchWriter.SalesDelta;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@DisplayName("SalesAggregator 단위 테스트")
+class SalesAggregatorTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  private static final Instant NOW = Instant.parse("2024-05-10T03:00:00Z");
+  private static final LocalDate TODAY = LocalDate.ofInstant(NOW, ZONE);
+
+  private SalesDailyBatchWriter writer;
+  private SalesAggregator aggregator;
+
+  @BeforeEach
+  void setUp() {
+    writer = mock(SalesDailyBatchWriter.class);
+    aggregator = new SalesAggregator(writer, Clock.fixed(NOW, ZONE));
+  }
+
+  @Test
+  @DisplayName("접수와 취소를 일자 합계와 상품별로 누적해 한 번에 반영한다")
+  void accumulatesPlacedAndCanceled() {
+    aggregator.record(NOW, List.of(new Line(1L, 2, 2000), new Line(2L, 1, 500)), 1);
+    aggregator.record(NOW, List.of(new Line(1L, 1, 1000), new Line(1L, 1, 1000)), 1);
+    aggregator.record(NOW, List.of(new Line(2L, 1, 500)), -1);
+
+    assertThat(aggregator.flush()).isEqualTo(2);
+
+    // 상품 2는 접수 후 취소되어 증감분이 0이므로 쓰지 않음
+    assertThat(flushedDeltas()).containsExactlyInAnyOrder(
+        new SalesDelta(TODAY, SalesDaily.DAY_TOTAL, 1, 4, 4000),
+        new SalesDelta(TODAY, 1L, 2, 4, 4000));
+  }
+
+  @Test
+  @DisplayName("반영할 증감분이 없으면 쓰지 않는다")
+  void skipsEmptyFlush() {
+    aggregator.record(NOW, List.of(new Line(1L, 1, 100)), 1);
+    aggregator.flush();
+
+    assertThat(aggregator.flush()).isZero();
+    verify(writer, times(1)).accumulate(anyList());
+  }
+
+  @Test
+  @DisplayName("반영에 실패한 증감분은 다음 flush에 다시 반영한다")
+  void retriesFailedFlush() {
+    aggregator.record(NOW, List.of(new Line(1L, 1, 100)), 1);
+    doThrow(new IllegalStateException("db down")).doNothing().when(writer).accumulate(anyList());
+
+    assertThat(aggregator.flush()).isZero();
+    assertThat(aggregator.flush()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("이틀 이상 지난 주문의 취소는 카운터를 만들지 않고 그대로 반영한다")
+  void routesOldDatesWithoutCounters() {
+    Instant orderedAt = NOW.minus(10, ChronoUnit.DAYS);
+    aggregator.record(orderedAt, List.of(new Line(1L, 3, 300)), -1);
+
+    assertThat(aggregator.counterCount()).isZero();
+    assertThat(aggregator.flush()).isEqualTo(2);
+    assertThat(flushedDeltas()).contains(
+        new SalesDelta(TODAY.minusDays(10), SalesDaily.DAY_TOTAL, -1, -3, -300));
+  }
+
+  @Test
+  @DisplayName("여러 스레드가 동시에 누적해도 합계가 정확하다")
+  void concurrentRecords() throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 8_000; i++) {
+      executor.execute(() -> aggregator.record(NOW, List.of(new Line(1L, 1, 10)), 1));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    aggregator.flush();
+    assertThat(flushedDeltas()).contains(
+        new SalesDelta(TODAY, SalesDaily.DAY_TOTAL, 8_000, 8_000, 80_000));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<SalesDelta> flushedDeltas() {
+    ArgumentCaptor<List<SalesDelta>> captor = ArgumentCaptor.forClass(List.class);
+    verify(writer).accumulate(captor.capture());
+    return captor.getValue();
+  }
+}